@@ -1,9 +1,39 @@
 package com.hotel;
 
+import com.hotel.billing.FolioLedger;
+import com.hotel.codec.GuestDecoder;
+import com.hotel.codec.GuestEncoder;
+import com.hotel.config.AppConfigHolder;
+import com.hotel.config.AppConfigWatcher;
 import com.hotel.model.*;
+import com.hotel.persistence.InventoryImage;
+import com.hotel.scheduler.HotelEventScheduler;
+import com.hotel.scheduler.TimingWheel;
+import com.hotel.service.DiningService;
+import com.hotel.service.HousekeepingService;
+import com.hotel.supplies.SupplyInventory;
+import com.hotel.supplies.SupplyType;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+import java.util.Date;
 
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        // Load and validate application.properties once at startup
+        AppConfigHolder.load();
+        // Pick up edits to an external -Dapp.config file without a restart
+        if (AppConfigHolder.externalConfigPath() != null) {
+            AppConfigWatcher.start(AppConfigHolder.externalConfigPath());
+        }
+
+        // Fast startup: boot from a prebuilt inventory image instead of building the hotel by hand
+        if (args.length == 2 && args[0].equals("--image")) {
+            Hotel hotel = InventoryImage.load(Paths.get(args[1]));
+            hotel.displayHotelInfo();
+            return;
+        }
+
         // Create hotel
         Hotel hotel = new Hotel("Five Star Grand Hotel", "100 Zhongxiao E Rd, Xinyi District, Taipei");
 
@@ -22,6 +52,25 @@ public class Main {
         Chef chef = new Chef("Master Wang", 45, "0934-567-890", "Chinese Cuisine");
         chef.setYearsOfExperience(20);
 
+        // Charges are posted to guest folios and totalled at check-out
+        FolioLedger ledger = new FolioLedger();
+        staff.setLedger(ledger);
+        DiningService diningService = new DiningService(ledger);
+        HousekeepingService housekeepingService = new HousekeepingService(ledger);
+
+        // Check-ins schedule a late check-out alert that an on-time check-out cancels
+        HotelEventScheduler scheduler = new HotelEventScheduler(
+                new TimingWheel(1000, System.currentTimeMillis()), staff, housekeepingService);
+        staff.setEventScheduler(scheduler);
+
+        // Linen and amenities are drawn from each floor's store room as rooms are cleaned
+        SupplyInventory supplies = new SupplyInventory();
+        supplies.setReorderListener(alert -> System.out.println(alert));
+        supplies.receive("1st Floor", SupplyType.LINEN_SET, 21);
+        supplies.receive("1st Floor", SupplyType.TOWEL, 120);
+        supplies.receive("1st Floor", SupplyType.TOILETRY_KIT, 40);
+        housekeeper.setSupplyInventory(supplies);
+
         hotel.addFrontDeskStaff(staff);
         hotel.addHousekeeper(housekeeper);
         hotel.addChef(chef);
@@ -32,6 +81,11 @@ public class Main {
         hotel.addGuest(guest1);
         hotel.addGuest(guest2);
 
+        // save the built inventory so the next boot can use --image
+        if (args.length == 2 && args[0].equals("--save-image")) {
+            InventoryImage.write(hotel, Paths.get(args[1]));
+        }
+
         // display hotel information
         System.out.println("=== Hotel Management System ===\n");
         hotel.displayHotelInfo();
@@ -40,19 +94,22 @@ public class Main {
         System.out.println("\n=== Testing hotel services ===\n");
         
         // test check-in (demonstrates Long Method and Magic Number)
-        staff.checkIn(guest1, "101", 3);
+        hotel.checkIn(guest1, "101", 3);
         System.out.println();
 
         // test cleaning service (demonstrates Long Parameter List)
         housekeeper.cleanRoom("101", true, true, true, true, true);
+        supplies.snapshot().display();
         System.out.println();
 
         // test dining service
         chef.prepareMeal("Kung Pao Chicken", 2);
+        diningService.serveFood(guest1, "Kung Pao Chicken", 48000);
+        housekeepingService.provideExtraService(guest1, "Laundry", 25050);
         System.out.println();
 
         // test check-out (demonstrates Duplicate Code)
-        staff.checkOut(guest1);
+        hotel.checkOut(guest1);
         System.out.println();
 
         // test Feature Envy
@@ -81,5 +138,28 @@ public class Main {
         hotel.reportWorkSchedule(); // Inherited but not implemented properly
         System.out.println("Hotel performance bonus: " + hotel.calculatePerformanceBonus()); // Returns 0
         System.out.println();
+
+        // test timed events: guest1 checked out on time, guest2 was checked in above but never checked out
+        System.out.println("=== Testing event scheduler ===");
+        room2.setClean(false);
+        scheduler.scheduleCleaningDeadline(room2, new Date(System.currentTimeMillis() + 60 * 60 * 1000));
+        scheduler.advanceTo(guest2.getCheckOutDate().getTime() + 1000); // one tick past check-out
+        System.out.println();
+
+        // test guest search by partial name / contact, with a typo
+        System.out.println("=== Testing guest search ===");
+        for (Guest found : hotel.searchGuests("chen exmaple")) {
+            System.out.println("Found guest: " + found.getName() + " (" + found.getContactInfo() + ")");
+        }
+        System.out.println();
+
+        // test sending a guest to the back office in the binary wire format
+        System.out.println("=== Testing wire codec ===");
+        ByteBuffer wire = ByteBuffer.allocate(256);
+        int length = new GuestEncoder().wrap(wire, 0).encode(guest2);
+        GuestDecoder received = new GuestDecoder().wrap(wire, 0);
+        System.out.println("Encoded " + length + " bytes, received " + received.name()
+                + " in room " + received.roomNumber());
+        System.out.println();
     }
 }
\ No newline at end of file
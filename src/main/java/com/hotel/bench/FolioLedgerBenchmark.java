@@ -0,0 +1,100 @@
+package com.hotel.bench;
+
+import com.hotel.billing.ChargeType;
+import com.hotel.billing.Folio;
+import com.hotel.billing.FolioLedger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+// Several threads post room, dining and service charges to a shared
+// FolioLedger across many guests. Checks that every posting is counted once
+// and that the journal total equals the sum of folio balances, then reports
+// throughput. Exits non-zero on a mismatch or below the postings/s target.
+//
+//   FolioLedgerBenchmark [threads] [postingsPerThread] [guests]     default 8 threads, 500,000 postings, 100,000 guests
+public class FolioLedgerBenchmark {
+    private static final long TARGET_POSTINGS_PER_SECOND = 100_000;
+    private static final ChargeType[] TYPES = ChargeType.values();
+
+    public static void main(String[] args) throws InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int postings = args.length > 1 ? Integer.parseInt(args[1]) : 500_000;
+        int guests = args.length > 2 ? Integer.parseInt(args[2]) : 100_000;
+        String[] guestIds = new String[guests];
+        for (int i = 0; i < guests; i++) {
+            guestIds[i] = "G" + i;
+        }
+
+        // warm-up on a throwaway ledger, so the timed run is not the JIT's first look
+        run(new FolioLedger(), threads, postings / 10, guestIds);
+        FolioLedger ledger = new FolioLedger();
+        long nanos = run(ledger, threads, postings, guestIds);
+
+        long expectedCount = (long) threads * postings;
+        long expectedTotal = 0;
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < postings; i++) {
+                expectedTotal += amountCents(t, i);
+            }
+        }
+        long folioTotal = 0;
+        for (String guestId : guestIds) {
+            Folio folio = ledger.folioOf(guestId);
+            folioTotal += folio == null ? 0 : folio.getBalanceCents();
+        }
+        int violations = 0;
+        if (ledger.postingCount() != expectedCount) {
+            System.out.println("Posting count " + ledger.postingCount() + ", expected " + expectedCount);
+            violations++;
+        }
+        if (ledger.journalTotalCents() != expectedTotal || folioTotal != expectedTotal) {
+            System.out.println("Journal total " + ledger.journalTotalCents() + " and folio balances " + folioTotal
+                    + ", expected " + expectedTotal);
+            violations++;
+        }
+
+        double perSecond = expectedCount * 1e9 / nanos;
+        boolean met = perSecond >= TARGET_POSTINGS_PER_SECOND;
+        System.out.printf("%d threads posted %d charges to %d guests in %d ms: %.0f postings/s (target %d): %s%n",
+                threads, expectedCount, guests, nanos / 1_000_000, perSecond, TARGET_POSTINGS_PER_SECOND,
+                met ? "OK" : "MISSED");
+        System.out.println(violations == 0 ? "Journal and folio balances add up" : violations + " violations");
+        if (violations != 0 || !met) {
+            System.exit(1);
+        }
+    }
+
+    private static long run(FolioLedger ledger, int threads, int postings, String[] guestIds)
+            throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < postings; i++) {
+                    String guestId = guestIds[(int) ((thread * 7919L + i * 104729L) % guestIds.length)];
+                    ledger.post(guestId, TYPES[i % TYPES.length], "Charge", amountCents(thread, i));
+                }
+            }, "poster-" + t);
+            workers.add(worker);
+            worker.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return System.nanoTime() - begin;
+    }
+
+    private static long amountCents(int thread, int posting) {
+        return 100 + (thread * 31L + posting) % 9_900;
+    }
+}
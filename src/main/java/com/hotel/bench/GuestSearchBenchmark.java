@@ -0,0 +1,104 @@
+package com.hotel.bench;
+
+import com.hotel.model.Guest;
+import com.hotel.search.GuestSearchIndex;
+import java.util.Arrays;
+import java.util.Random;
+
+// Query latency of the guest search index over a large synthetic guest list
+// with realistic name skew (a handful of surnames cover most guests).
+// First checks that queries whose words expand to more terms than the index
+// merges at once still return every matching guest. Exits non-zero when that
+// check fails or the overall p99 misses the target.
+//
+//   GuestSearchBenchmark [guests] [rounds]     default 5,000,000 guests; run with -Xmx4g
+public class GuestSearchBenchmark {
+    private static final long TARGET_P99_NANOS = 1_000_000;
+    private static final long WARMUP_NANOS = 10_000_000_000L;
+    private static final String[] SURNAMES = {"Chen", "Lin", "Huang", "Chang", "Li", "Wang", "Wu", "Liu", "Tsai",
+        "Yang", "Hsu", "Cheng", "Hsieh", "Kuo", "Hung", "Tseng", "Lai", "Chou", "Yeh", "Su"};
+    private static final String[] GIVEN = {"Wei", "Lind", "Mei", "Jun", "Hao", "Ling", "Yu", "Ting", "Chun", "Hui",
+        "Ming", "Jie", "Xin", "Yi", "Zhen", "Hua", "Guang", "Gang", "Ping", "Fang"};
+    private static final String[] DOMAINS = {"example.com", "mail.tw", "hotel.example", "corp.example"};
+    private static final String[] QUERIES = {"chen", "lind", "wang lin", "g", "chen exmaple", "zhnag wei",
+        "guang", "tsai 0912", "li mei example", "guest4711", "0912345678", "hsieh ping corp"};
+
+    public static void main(String[] args) {
+        int guests = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        if (!checkExpansionCap()) {
+            System.exit(1);
+        }
+
+        long start = System.nanoTime();
+        GuestSearchIndex index = new GuestSearchIndex();
+        Random random = new Random(42);
+        for (int i = 0; i < guests; i++) {
+            // Zipf-like skew: low surname indices are much more common
+            String surname = SURNAMES[(int) (SURNAMES.length * Math.pow(random.nextDouble(), 3))];
+            String given = GIVEN[random.nextInt(GIVEN.length)];
+            String contact = random.nextBoolean()
+                    ? given.toLowerCase() + "." + surname.toLowerCase() + i + "@" + DOMAINS[random.nextInt(DOMAINS.length)]
+                    : String.format("09%02d-%03d-%03d", random.nextInt(100), random.nextInt(1000), random.nextInt(1000));
+            index.add(new Guest(given + " " + surname, 20 + i % 60, contact, "G" + i));
+        }
+        System.out.println("Indexed " + guests + " guests in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+        // Warm up for a while, not a fixed count: on a machine with few cores the
+        // JIT compiler threads otherwise still compete with the measured queries
+        long warmupEnd = System.nanoTime() + WARMUP_NANOS;
+        for (int warmup = 0; warmup < 500 || System.nanoTime() < warmupEnd; warmup++) {
+            for (String query : QUERIES) {
+                index.search(query);
+            }
+        }
+        long[] all = new long[rounds * QUERIES.length];
+        int n = 0;
+        for (String query : QUERIES) {
+            long[] nanos = new long[rounds];
+            int hits = 0;
+            for (int r = 0; r < rounds; r++) {
+                long t = System.nanoTime();
+                hits = index.search(query).size();
+                nanos[r] = System.nanoTime() - t;
+                all[n++] = nanos[r];
+            }
+            Arrays.sort(nanos);
+            System.out.printf("%-18s hits %3d   p50 %7.1f us   p99 %7.1f us%n", query, hits,
+                    nanos[rounds / 2] / 1000.0, percentile(nanos, 0.99) / 1000.0);
+        }
+        Arrays.sort(all);
+        long p99 = percentile(all, 0.99);
+        boolean met = p99 <= TARGET_P99_NANOS;
+        System.out.printf("Overall p99 %.1f us (target < %d us): %s%n", p99 / 1000.0, TARGET_P99_NANOS / 1000,
+                met ? "OK" : "MISSED");
+        if (!met) {
+            System.exit(1);
+        }
+    }
+
+    // 100 guests "ab?? Smith", each with its own "ab" word: far more terms
+    // than one word expands to before it is capped
+    private static boolean checkExpansionCap() {
+        GuestSearchIndex index = new GuestSearchIndex();
+        int matching = 100;
+        for (int i = 0; i < matching; i++) {
+            String word = "ab" + (char) ('a' + i / 26) + (char) ('a' + i % 26);
+            index.add(new Guest(word + " Smith", 30, word + "@example.com", "C" + i));
+        }
+        index.add(new Guest("Other Smith", 30, "other@example.com", "C" + matching));
+        int[] found = {index.search("ab smith", 500).size(), index.search("smith ab", 500).size(),
+            index.search("ab", 500).size(), index.searchPrefix("ab", 500).size(), index.searchFuzzy("abaa", 2, 500).size()};
+        boolean ok = true;
+        for (int count : found) {
+            ok &= count == matching;
+        }
+        System.out.println("Over-cap queries returned " + Arrays.toString(found) + ", expected " + matching
+                + " each: " + (ok ? "OK" : "FAILED"));
+        return ok;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * p) - 1)];
+    }
+}
@@ -0,0 +1,95 @@
+package com.hotel.bench;
+
+import com.hotel.model.FrontDeskStaff;
+import com.hotel.model.Guest;
+import com.hotel.model.Hotel;
+import com.hotel.model.Housekeeper;
+import com.hotel.model.Room;
+import com.hotel.persistence.InventoryImage;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// Tracks how fast a large portfolio is ready to serve when booting from an
+// inventory image.
+//
+//   StartupBenchmark [rooms] [guests] [image]   build a synthetic portfolio, write the image, time a load
+//   StartupBenchmark --load-only [image]        boot from an existing image only (run in a fresh JVM,
+//                                               with and without the AppCDS archive, see README)
+//
+// Exits with status 1 when the load misses the target, so a regression fails the run.
+public class StartupBenchmark {
+    private static final String DEFAULT_IMAGE = "target/hotel-inventory.img";
+    private static final long TARGET_MILLIS = 1000;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("--load-only")) {
+            Path image = Paths.get(args.length > 1 ? args[1] : DEFAULT_IMAGE);
+            long start = System.nanoTime();
+            Hotel hotel = InventoryImage.load(image);
+            long loadMillis = (System.nanoTime() - start) / 1_000_000;
+            report(hotel, loadMillis, ManagementFactory.getRuntimeMXBean().getUptime());
+            return;
+        }
+        int rooms = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+        int guests = args.length > 1 ? Integer.parseInt(args[1]) : rooms / 10;
+        Path image = Paths.get(args.length > 2 ? args[2] : DEFAULT_IMAGE);
+
+        writeImage(rooms, guests, image);
+        // The built portfolio is garbage now; collect it so the timed load
+        // does not pay for copying it around the heap
+        System.gc();
+
+        long start = System.nanoTime();
+        Hotel loaded = InventoryImage.load(image);
+        report(loaded, (System.nanoTime() - start) / 1_000_000, ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    private static void writeImage(int rooms, int guests, Path image) throws IOException {
+        long start = System.nanoTime();
+        Hotel built = buildPortfolio(rooms, guests);
+        System.out.println("Built portfolio in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+        if (image.getParent() != null) {
+            Files.createDirectories(image.getParent());
+        }
+        start = System.nanoTime();
+        InventoryImage.write(built, image);
+        System.out.println("Wrote " + image + " (" + Files.size(image) / 1024 + " KB) in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    private static void report(Hotel hotel, long loadMillis, long uptimeMillis) {
+        System.out.println("Loaded " + hotel.getRooms().size() + " rooms and " + hotel.getGuests().size()
+                + " guests in " + loadMillis + " ms (target < " + TARGET_MILLIS + " ms)");
+        System.out.println("JVM uptime when ready: " + uptimeMillis + " ms");
+        if (loadMillis >= TARGET_MILLIS) {
+            System.out.println("FAILED: load missed the " + TARGET_MILLIS + " ms target");
+            System.exit(1);
+        }
+    }
+
+    private static Hotel buildPortfolio(int roomCount, int guestCount) {
+        String[] roomTypes = {"Standard Double Room", "Deluxe Suite", "Presidential Suite"};
+        double[] prices = {2000.0, 5000.0, 10000.0};
+        Hotel hotel = new Hotel("Five Star Grand Hotel", "100 Zhongxiao E Rd, Xinyi District, Taipei");
+        for (int i = 0; i < roomCount; i++) {
+            int type = i % roomTypes.length;
+            hotel.addRoom(new Room(String.valueOf(100_000 + i), roomTypes[type], prices[type]));
+        }
+        for (int i = 0; i < guestCount; i++) {
+            Guest guest = new Guest("Guest " + i, 20 + i % 60, "guest" + i + "@example.com", "G" + i);
+            guest.setRoomNumber(String.valueOf(100_000 + i % Math.max(roomCount, 1)));
+            hotel.addGuest(guest);
+        }
+        for (int floor = 1; floor <= Math.max(1, roomCount / 1000); floor++) {
+            hotel.addHousekeeper(new Housekeeper("Housekeeper " + floor, 30, "hk" + floor + "@example.com",
+                    "Floor " + floor));
+        }
+        hotel.addFrontDeskStaff(new FrontDeskStaff("John Zhang", 28, "0912-345-678", "Morning Shift",
+                new String[] {"Check-in", "Check-out", "Customer Service"}));
+        return hotel;
+    }
+}
@@ -0,0 +1,252 @@
+package com.hotel.bench;
+
+import com.hotel.supplies.ReorderAlert;
+import com.hotel.supplies.SupplyInventory;
+import com.hotel.supplies.SupplySnapshot;
+import com.hotel.supplies.SupplyType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Many housekeeper threads record cleaning tasks against a few floors while
+// another thread keeps taking snapshots. Every floor crosses each reorder
+// level halfway through a round; between rounds a delivery lifts it back
+// above. Checks that no snapshot shows half a task (towels drawn are always
+// four times the toiletry kits) or stock going back up, that each crossing
+// alerts exactly once with the stock it left behind, and that the final
+// counts add up. Finally raises every level above the stock, which must
+// alert each floor right away. Exits non-zero on any violation.
+//
+//   SupplyInventoryBenchmark [threads] [tasksPerThread] [floors]     default 200 threads, 20,000 tasks, 4 floors
+public class SupplyInventoryBenchmark {
+    private static final SupplyType[] TYPES = SupplyType.values();
+    private static final int ROUNDS = 2;
+
+    public static void main(String[] args) throws InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int tasks = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+        int floorCount = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        if (threads % floorCount != 0) {
+            throw new IllegalArgumentException("threads must be a multiple of floors");
+        }
+
+        String[] floors = new String[floorCount];
+        for (int f = 0; f < floorCount; f++) {
+            floors[f] = "Floor " + (f + 1);
+        }
+        // every floor gets the same mix: task i of a thread changes sheets,
+        // restocks, or both, in turn
+        long[] drawPerFloor = new long[TYPES.length];
+        for (int thread = 0; thread < threads / floorCount; thread++) {
+            for (int i = 0; i < tasks; i++) {
+                for (SupplyType type : TYPES) {
+                    drawPerFloor[type.ordinal()] += type.usage(changesSheets(thread, i), restocks(thread, i));
+                }
+            }
+        }
+
+        SupplyInventory inventory = new SupplyInventory();
+        List<ReorderAlert> alerts = new ArrayList<>();
+        inventory.setReorderListener(alert -> {
+            synchronized (alerts) {
+                alerts.add(alert);
+            }
+        });
+        for (String floor : floors) {
+            for (SupplyType type : TYPES) {
+                // half a round above the level, so the level is crossed mid-round
+                inventory.receive(floor, type, type.getDefaultReorderLevel() + drawPerFloor[type.ordinal()] / 2);
+            }
+        }
+
+        int violations = 0;
+        long taskNanos = 0;
+        long snapshots = 0;
+        for (int round = 1; round <= ROUNDS; round++) {
+            if (round > 1) {
+                for (String floor : floors) {
+                    for (SupplyType type : TYPES) {
+                        inventory.receive(floor, type, drawPerFloor[type.ordinal()]);
+                    }
+                }
+            }
+            SupplySnapshot before = inventory.snapshot();
+            synchronized (alerts) {
+                alerts.clear();
+            }
+
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger running = new AtomicInteger(threads);
+            List<Thread> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String floor = floors[t % floorCount];
+                int thread = t / floorCount;
+                Thread worker = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < tasks; i++) {
+                        inventory.recordCleaning(floor, changesSheets(thread, i), restocks(thread, i));
+                    }
+                    running.decrementAndGet();
+                }, "housekeeper-" + t);
+                workers.add(worker);
+                worker.start();
+            }
+
+            int[] torn = new int[1];
+            long[] taken = new long[1];
+            Thread reader = new Thread(() -> {
+                SupplySnapshot previous = before;
+                while (running.get() > 0) {
+                    SupplySnapshot current = inventory.snapshot();
+                    taken[0]++;
+                    for (String floor : floors) {
+                        if (!consistent(before, previous, current, floor) && ++torn[0] <= 5) {
+                            System.out.println("Torn snapshot for " + floor + ": " + describe(before, current, floor));
+                        }
+                    }
+                    previous = current;
+                }
+            }, "snapshot-reader");
+            reader.start();
+
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            taskNanos += System.nanoTime() - begin;
+            reader.join();
+            violations += torn[0];
+            snapshots += taken[0];
+
+            SupplySnapshot after = inventory.snapshot();
+            for (String floor : floors) {
+                for (SupplyType type : TYPES) {
+                    long drawn = before.getStock(floor, type) - after.getStock(floor, type);
+                    if (drawn != drawPerFloor[type.ordinal()]) {
+                        System.out.println("Round " + round + ": " + floor + " drew " + drawn + " " + type
+                                + ", expected " + drawPerFloor[type.ordinal()]);
+                        violations++;
+                    }
+                }
+            }
+            violations += checkAlerts(round, alerts, floors);
+        }
+        violations += checkRaisedLevels(inventory, alerts, floors, drawPerFloor);
+
+        long totalTasks = (long) threads * tasks * ROUNDS;
+        System.out.printf("%d threads on %d floors recorded %d cleaning tasks in %d ms (%.0f ns each), "
+                + "%d concurrent snapshots%n", threads, floorCount, totalTasks, taskNanos / 1_000_000,
+                (double) taskNanos / totalTasks, snapshots);
+        System.out.println(violations == 0 ? "No torn snapshots, every crossing alerted once, totals add up"
+                : violations + " violations");
+        if (violations != 0) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean changesSheets(int thread, int task) {
+        return (thread + task) % 3 != 1;
+    }
+
+    private static boolean restocks(int thread, int task) {
+        return (thread + task) % 3 != 0;
+    }
+
+    // A restock takes 4 towels and 1 toiletry kit together, so a snapshot
+    // holding whole tasks only always has 4 towels drawn per kit. Nothing is
+    // delivered during a round, so stock can only go down.
+    private static boolean consistent(SupplySnapshot start, SupplySnapshot previous, SupplySnapshot current,
+            String floor) {
+        long towels = start.getStock(floor, SupplyType.TOWEL) - current.getStock(floor, SupplyType.TOWEL);
+        long kits = start.getStock(floor, SupplyType.TOILETRY_KIT) - current.getStock(floor, SupplyType.TOILETRY_KIT);
+        if (towels != 4 * kits) {
+            return false;
+        }
+        for (SupplyType type : TYPES) {
+            if (current.getStock(floor, type) > previous.getStock(floor, type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String describe(SupplySnapshot start, SupplySnapshot current, String floor) {
+        StringBuilder drawn = new StringBuilder();
+        for (SupplyType type : TYPES) {
+            drawn.append(' ').append(type).append(" drawn ")
+                    .append(start.getStock(floor, type) - current.getStock(floor, type));
+        }
+        return drawn.toString().trim();
+    }
+
+    // Restocks every floor to half a round above the default levels, then
+    // raises each level by a whole round: every floor should alert once per
+    // supply, reporting the stock it has
+    private static int checkRaisedLevels(SupplyInventory inventory, List<ReorderAlert> alerts, String[] floors,
+            long[] drawPerFloor) {
+        for (String floor : floors) {
+            for (SupplyType type : TYPES) {
+                inventory.receive(floor, type, drawPerFloor[type.ordinal()]);
+            }
+        }
+        SupplySnapshot stock = inventory.snapshot();
+        synchronized (alerts) {
+            alerts.clear();
+        }
+        for (SupplyType type : TYPES) {
+            inventory.setReorderLevel(type, type.getDefaultReorderLevel() + drawPerFloor[type.ordinal()]);
+        }
+        int violations = 0;
+        for (String floor : floors) {
+            for (SupplyType type : TYPES) {
+                int seen = 0;
+                for (ReorderAlert alert : alerts) {
+                    if (alert.getFloor().equals(floor) && alert.getType() == type) {
+                        seen++;
+                        if (alert.getRemaining() != stock.getStock(floor, type)) {
+                            System.out.println("Raised level: " + alert + ", stock " + stock.getStock(floor, type));
+                            violations++;
+                        }
+                    }
+                }
+                if (seen != 1) {
+                    System.out.println("Raised level: " + floor + " alerted " + seen + " times for " + type);
+                    violations++;
+                }
+            }
+        }
+        return violations;
+    }
+
+    // Each floor should have alerted exactly once per supply, right at the level
+    private static int checkAlerts(int round, List<ReorderAlert> alerts, String[] floors) {
+        int violations = 0;
+        for (String floor : floors) {
+            for (SupplyType type : TYPES) {
+                int seen = 0;
+                for (ReorderAlert alert : alerts) {
+                    if (alert.getFloor().equals(floor) && alert.getType() == type) {
+                        seen++;
+                        long level = alert.getReorderLevel();
+                        if (alert.getRemaining() > level || alert.getRemaining() <= level - type.usage(true, true)) {
+                            System.out.println("Round " + round + ": " + alert);
+                            violations++;
+                        }
+                    }
+                }
+                if (seen != 1) {
+                    System.out.println("Round " + round + ": " + floor + " alerted " + seen + " times for " + type);
+                    violations++;
+                }
+            }
+        }
+        return violations;
+    }
+}
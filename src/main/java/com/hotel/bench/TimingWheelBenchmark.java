@@ -0,0 +1,95 @@
+package com.hotel.bench;
+
+import com.hotel.scheduler.Timeout;
+import com.hotel.scheduler.TimingWheel;
+import java.util.Random;
+
+// Schedules a large number of random timers on a TimingWheel, cancels a share
+// of them and some callbacks throw, then advances through the whole range.
+// Checks that every live timer fires exactly once, never early and at most
+// one tick late, that cancelled timers never fire and that a throwing
+// callback does not stop the rest of its batch. Exits non-zero on any violation.
+//
+//   TimingWheelBenchmark [timers] [horizonMillis]     default 2,000,000 timers over 30 days
+public class TimingWheelBenchmark {
+    private static final long TICK_MILLIS = 1000;
+    private static final long START_MILLIS = 1_700_000_000_000L;
+
+    public static void main(String[] args) {
+        int timers = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        long horizon = args.length > 1 ? Long.parseLong(args[1]) : 30L * 24 * 60 * 60 * 1000;
+
+        TimingWheel wheel = new TimingWheel(TICK_MILLIS, START_MILLIS);
+        int[] fired = new int[timers];
+        long[] firedAt = new long[timers];
+        long[] deadlines = new long[timers];
+        boolean[] cancelled = new boolean[timers];
+        Timeout[] handles = new Timeout[timers];
+        long[] now = {START_MILLIS};
+        int[] failures = {0};
+        wheel.setFailureHandler((timeout, e) -> failures[0]++);
+        Random random = new Random(42);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < timers; i++) {
+            int id = i;
+            deadlines[i] = START_MILLIS + (long) (random.nextDouble() * horizon);
+            boolean throwing = i % 1000 == 0;
+            handles[i] = wheel.schedule(deadlines[i], () -> {
+                fired[id]++;
+                firedAt[id] = now[0];
+                if (throwing) {
+                    throw new IllegalStateException("callback " + id + " failed");
+                }
+            });
+        }
+        long scheduleNanos = System.nanoTime() - start;
+
+        int expectedFailures = 0;
+        for (int i = 0; i < timers; i++) {
+            if (i % 10 == 3) {
+                cancelled[i] = handles[i].cancel();
+            } else if (i % 1000 == 0) {
+                expectedFailures++;
+            }
+        }
+
+        start = System.nanoTime();
+        long end = START_MILLIS + horizon + 2 * TICK_MILLIS;
+        int callbacks = 0;
+        for (now[0] = START_MILLIS; now[0] <= end; now[0] += TICK_MILLIS) {
+            callbacks += wheel.advanceTo(now[0]);
+        }
+        long advanceNanos = System.nanoTime() - start;
+
+        int violations = 0;
+        for (int i = 0; i < timers; i++) {
+            boolean ok;
+            if (cancelled[i]) {
+                ok = fired[i] == 0;
+            } else {
+                // advanceTo is called on every tick boundary here
+                ok = fired[i] == 1 && firedAt[i] >= deadlines[i] && firedAt[i] < deadlines[i] + TICK_MILLIS;
+            }
+            if (!ok && ++violations <= 5) {
+                System.out.println("Timer " + i + " deadline " + deadlines[i] + " fired " + fired[i]
+                        + " times, last at " + firedAt[i] + (cancelled[i] ? " (cancelled)" : ""));
+            }
+        }
+        if (failures[0] != expectedFailures) {
+            System.out.println("Expected " + expectedFailures + " failing callbacks, handler saw " + failures[0]);
+            violations++;
+        }
+        if (wheel.pendingCount() != 0) {
+            System.out.println(wheel.pendingCount() + " timers still pending");
+            violations++;
+        }
+
+        System.out.printf("Scheduled %d timers in %d ms (%.0f ns each), ran %d callbacks in %d ms%n", timers,
+                scheduleNanos / 1_000_000, (double) scheduleNanos / timers, callbacks, advanceNanos / 1_000_000);
+        System.out.println(violations == 0 ? "All timers fired exactly once, on time" : violations + " violations");
+        if (violations != 0) {
+            System.exit(1);
+        }
+    }
+}
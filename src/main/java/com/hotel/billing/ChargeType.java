@@ -0,0 +1,8 @@
+package com.hotel.billing;
+
+// Kind of charge posted to a guest folio
+public enum ChargeType {
+    ROOM,
+    DINING,
+    SERVICE
+}
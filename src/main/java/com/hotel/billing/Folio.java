@@ -0,0 +1,40 @@
+package com.hotel.billing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// A guest's running account. Postings are only ever appended, and the balance
+// is kept up to date as they arrive so reading it at check-out is O(1).
+// Only FolioLedger appends postings.
+public final class Folio {
+    private final String guestId;
+    private final List<Posting> postings = new ArrayList<>();
+    private volatile long balanceCents;
+
+    Folio(String guestId) {
+        this.guestId = guestId;
+    }
+
+    synchronized void append(Posting posting) {
+        postings.add(posting);
+        balanceCents += posting.getAmountCents();
+    }
+
+    public String getGuestId() {
+        return guestId;
+    }
+
+    public long getBalanceCents() {
+        return balanceCents;
+    }
+
+    // Copy of the postings so far, oldest first
+    public synchronized List<Posting> getPostings() {
+        return Collections.unmodifiableList(new ArrayList<>(postings));
+    }
+
+    synchronized int postingCount() {
+        return postings.size();
+    }
+}
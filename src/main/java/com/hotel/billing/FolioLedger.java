@@ -0,0 +1,114 @@
+package com.hotel.billing;
+
+import com.hotel.model.Guest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Posts room, dining and service charges to per-guest folios. Guests are
+// spread over independently locked shards, each with its own append-only
+// journal, so postings for different guests rarely contend. Amounts are
+// fixed-point cents; use Money.format to display them.
+public class FolioLedger {
+    private static final int DEFAULT_SHARDS = 64;
+
+    private final Shard[] shards;
+    private final int shardMask;
+    private final int shardBits;
+
+    public FolioLedger() {
+        this(DEFAULT_SHARDS);
+    }
+
+    // shardCount is rounded up to a power of two
+    public FolioLedger(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("shardCount must be at least 1");
+        }
+        int size = Integer.highestOneBit(shardCount);
+        if (size < shardCount) {
+            size <<= 1;
+        }
+        this.shards = new Shard[size];
+        this.shardMask = size - 1;
+        this.shardBits = Integer.numberOfTrailingZeros(size);
+        for (int i = 0; i < size; i++) {
+            shards[i] = new Shard(i);
+        }
+    }
+
+    public Posting post(Guest guest, ChargeType type, String description, long amountCents) {
+        return post(guest.getGuestId(), type, description, amountCents);
+    }
+
+    public Posting post(String guestId, ChargeType type, String description, long amountCents) {
+        if (guestId == null) {
+            throw new IllegalArgumentException("Cannot post a charge without a guest id");
+        }
+        Shard shard = shardFor(guestId);
+        synchronized (shard) {
+            // Shard-local counter in the high bits, shard index in the low
+            // bits: unique ledger-wide without a shared atomic
+            long sequence = (++shard.lastSequence << shardBits) | shard.index;
+            Posting posting = new Posting(sequence, guestId, type, description, amountCents,
+                    System.currentTimeMillis());
+            shard.journal.add(posting);
+            shard.folios.computeIfAbsent(guestId, Folio::new).append(posting);
+            return posting;
+        }
+    }
+
+    // O(1): folios keep a running balance
+    public long balanceOf(Guest guest) {
+        Folio folio = folioOf(guest.getGuestId());
+        return folio == null ? 0 : folio.getBalanceCents();
+    }
+
+    public Folio folioOf(String guestId) {
+        Shard shard = shardFor(guestId);
+        synchronized (shard) {
+            return shard.folios.get(guestId);
+        }
+    }
+
+    public long postingCount() {
+        long count = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                count += shard.journal.size();
+            }
+        }
+        return count;
+    }
+
+    // Sum of all postings, recomputed from the journals; should always equal
+    // the sum of the folio balances
+    public long journalTotalCents() {
+        long total = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                for (Posting posting : shard.journal) {
+                    total += posting.getAmountCents();
+                }
+            }
+        }
+        return total;
+    }
+
+    private Shard shardFor(String guestId) {
+        int h = guestId.hashCode();
+        return shards[(h ^ (h >>> 16)) & shardMask];
+    }
+
+    private static final class Shard {
+        private final int index;
+        private long lastSequence;
+        private final List<Posting> journal = new ArrayList<>();
+        private final Map<String, Folio> folios = new HashMap<>();
+
+        private Shard(int index) {
+            this.index = index;
+        }
+    }
+}
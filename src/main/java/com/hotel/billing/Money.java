@@ -0,0 +1,16 @@
+package com.hotel.billing;
+
+// Money is carried as a long number of cents so sums never pick up
+// floating-point rounding errors; this class only converts for display.
+public final class Money {
+    private Money() {
+    }
+
+    // 600000 -> "6000.00", -150 -> "-1.50"
+    public static String format(long cents) {
+        String sign = cents < 0 ? "-" : "";
+        long abs = Math.abs(cents);
+        long fraction = abs % 100;
+        return sign + (abs / 100) + "." + (fraction < 10 ? "0" : "") + fraction;
+    }
+}
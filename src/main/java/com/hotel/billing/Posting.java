@@ -0,0 +1,51 @@
+package com.hotel.billing;
+
+// One immutable line on a guest folio. Sequence numbers are unique within a
+// ledger and increase per guest, but are not a global posting order.
+public final class Posting {
+    private final long sequence;
+    private final String guestId;
+    private final ChargeType type;
+    private final String description;
+    private final long amountCents;
+    private final long postedAtMillis;
+
+    Posting(long sequence, String guestId, ChargeType type, String description, long amountCents,
+            long postedAtMillis) {
+        this.sequence = sequence;
+        this.guestId = guestId;
+        this.type = type;
+        this.description = description;
+        this.amountCents = amountCents;
+        this.postedAtMillis = postedAtMillis;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public String getGuestId() {
+        return guestId;
+    }
+
+    public ChargeType getType() {
+        return type;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public long getAmountCents() {
+        return amountCents;
+    }
+
+    public long getPostedAtMillis() {
+        return postedAtMillis;
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + description + " " + Money.format(amountCents);
+    }
+}
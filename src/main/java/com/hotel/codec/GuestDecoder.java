@@ -0,0 +1,107 @@
+package com.hotel.codec;
+
+import com.hotel.model.Guest;
+import java.nio.ByteBuffer;
+import java.util.Date;
+
+// Flyweight over an encoded Guest message: fields are read from the buffer
+// on demand, so reading only a couple of them touches nothing else and
+// allocates nothing. Strings are only built when asked for.
+public final class GuestDecoder {
+    private static final int VAR_FIELDS = 4;
+    private static final int GUEST_ID = 0;
+    private static final int NAME = 1;
+    private static final int CONTACT_INFO = 2;
+    private static final int ROOM_NUMBER = 3;
+
+    private final int[] varOffsets = new int[VAR_FIELDS];
+    private ByteBuffer buffer;
+    private int offset;
+    private int blockLength;
+
+    public GuestDecoder wrap(ByteBuffer buffer, int offset) {
+        MessageHeader.check(buffer, offset, GuestEncoder.TEMPLATE_ID);
+        this.buffer = buffer;
+        this.offset = offset;
+        this.blockLength = MessageHeader.blockLength(buffer, offset);
+        int frameEnd = offset + MessageHeader.frameLength(buffer, offset);
+        int pos = offset + MessageHeader.LENGTH + blockLength;
+        for (int i = 0; i < VAR_FIELDS; i++) {
+            varOffsets[i] = VarString.locate(buffer, pos, frameEnd);
+            pos += VarString.size(buffer, varOffsets[i]);
+        }
+        return this;
+    }
+
+    public int encodedLength() {
+        return MessageHeader.frameLength(buffer, offset);
+    }
+
+    public int version() {
+        return MessageHeader.version(buffer, offset);
+    }
+
+    public int age() {
+        return has(GuestEncoder.AGE_OFFSET, 4) ? buffer.getInt(block() + GuestEncoder.AGE_OFFSET) : 0;
+    }
+
+    public long checkInMillis() {
+        return has(GuestEncoder.CHECK_IN_OFFSET, 8)
+                ? buffer.getLong(block() + GuestEncoder.CHECK_IN_OFFSET) : GuestEncoder.NULL_DATE;
+    }
+
+    public long checkOutMillis() {
+        return has(GuestEncoder.CHECK_OUT_OFFSET, 8)
+                ? buffer.getLong(block() + GuestEncoder.CHECK_OUT_OFFSET) : GuestEncoder.NULL_DATE;
+    }
+
+    public String guestId() {
+        return VarString.read(buffer, varOffsets[GUEST_ID]);
+    }
+
+    public boolean guestIdEquals(CharSequence asciiValue) {
+        return VarString.equalsAscii(buffer, varOffsets[GUEST_ID], asciiValue);
+    }
+
+    public String name() {
+        return VarString.read(buffer, varOffsets[NAME]);
+    }
+
+    // Copies the UTF-8 name into dst; returns its byte length or -1 when null
+    public int getName(byte[] dst, int dstOffset) {
+        return VarString.copy(buffer, varOffsets[NAME], dst, dstOffset);
+    }
+
+    public String contactInfo() {
+        return VarString.read(buffer, varOffsets[CONTACT_INFO]);
+    }
+
+    public String roomNumber() {
+        return VarString.read(buffer, varOffsets[ROOM_NUMBER]);
+    }
+
+    public boolean roomNumberEquals(CharSequence asciiValue) {
+        return VarString.equalsAscii(buffer, varOffsets[ROOM_NUMBER], asciiValue);
+    }
+
+    public Guest toGuest() {
+        Guest guest = new Guest(name(), age(), contactInfo(), guestId());
+        guest.setRoomNumber(roomNumber());
+        guest.setCheckInDate(date(checkInMillis()));
+        guest.setCheckOutDate(date(checkOutMillis()));
+        return guest;
+    }
+
+    private int block() {
+        return offset + MessageHeader.LENGTH;
+    }
+
+    // False when the sender's schema predates the field
+    private boolean has(int fieldOffset, int size) {
+        return fieldOffset + size <= blockLength;
+    }
+
+    private static Date date(long millis) {
+        return millis == GuestEncoder.NULL_DATE ? null : new Date(millis);
+    }
+}
@@ -0,0 +1,47 @@
+package com.hotel.codec;
+
+import com.hotel.model.Guest;
+import java.nio.ByteBuffer;
+
+// Writes a Guest message straight into a ByteBuffer. Reusable: wrap it
+// around the next position for every message.
+//
+// Fixed block: int32 age, int64 checkInMillis, int64 checkOutMillis
+// Variable:    guestId, name, contactInfo, roomNumber
+public final class GuestEncoder {
+    public static final int TEMPLATE_ID = 1;
+    public static final int BLOCK_LENGTH = 20;
+    public static final long NULL_DATE = Long.MIN_VALUE;
+
+    static final int AGE_OFFSET = 0;
+    static final int CHECK_IN_OFFSET = 4;
+    static final int CHECK_OUT_OFFSET = 12;
+
+    private ByteBuffer buffer;
+    private int offset;
+
+    public GuestEncoder wrap(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+        MessageHeader.write(buffer, offset, BLOCK_LENGTH, TEMPLATE_ID);
+        return this;
+    }
+
+    // Encodes the guest at the wrapped position; returns the message length
+    public int encode(Guest guest) {
+        int block = offset + MessageHeader.LENGTH;
+        buffer.putInt(block + AGE_OFFSET, guest.getAge());
+        buffer.putLong(block + CHECK_IN_OFFSET,
+                guest.getCheckInDate() == null ? NULL_DATE : guest.getCheckInDate().getTime());
+        buffer.putLong(block + CHECK_OUT_OFFSET,
+                guest.getCheckOutDate() == null ? NULL_DATE : guest.getCheckOutDate().getTime());
+        int pos = block + BLOCK_LENGTH;
+        pos += VarString.write(buffer, pos, guest.getGuestId());
+        pos += VarString.write(buffer, pos, guest.getName());
+        pos += VarString.write(buffer, pos, guest.getContactInfo());
+        pos += VarString.write(buffer, pos, guest.getRoomNumber());
+        int length = pos - offset;
+        MessageHeader.writeFrameLength(buffer, offset, length);
+        return length;
+    }
+}
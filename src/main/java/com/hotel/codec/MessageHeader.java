@@ -0,0 +1,80 @@
+package com.hotel.codec;
+
+import java.nio.ByteBuffer;
+
+// Header written in front of every message (big-endian):
+//
+//   int32  frameLength  whole message, header included
+//   uint16 blockLength  size of the fixed-size field block that follows
+//   uint16 templateId   which message this is (guest, room, reservation)
+//   uint16 schemaId
+//   uint16 version      schema version the sender encoded with
+//
+// Variable-length fields start right after the fixed block, located through
+// the sender's blockLength rather than the receiver's. New fixed fields are
+// only ever appended to the block and new variable fields only to the end, so
+// older readers skip what they don't know and newer readers treat fields
+// missing from older messages as null.
+public final class MessageHeader {
+    public static final int LENGTH = 12;
+    public static final int SCHEMA_ID = 0x4854; // "HT"
+    public static final int SCHEMA_VERSION = 1;
+
+    private static final int FRAME_LENGTH_OFFSET = 0;
+    private static final int BLOCK_LENGTH_OFFSET = 4;
+    private static final int TEMPLATE_ID_OFFSET = 6;
+    private static final int SCHEMA_ID_OFFSET = 8;
+    private static final int VERSION_OFFSET = 10;
+
+    private MessageHeader() {
+    }
+
+    static void write(ByteBuffer buffer, int offset, int blockLength, int templateId) {
+        buffer.putShort(offset + BLOCK_LENGTH_OFFSET, (short) blockLength);
+        buffer.putShort(offset + TEMPLATE_ID_OFFSET, (short) templateId);
+        buffer.putShort(offset + SCHEMA_ID_OFFSET, (short) SCHEMA_ID);
+        buffer.putShort(offset + VERSION_OFFSET, (short) SCHEMA_VERSION);
+    }
+
+    static void writeFrameLength(ByteBuffer buffer, int offset, int frameLength) {
+        buffer.putInt(offset + FRAME_LENGTH_OFFSET, frameLength);
+    }
+
+    public static int frameLength(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset + FRAME_LENGTH_OFFSET);
+    }
+
+    public static int blockLength(ByteBuffer buffer, int offset) {
+        return buffer.getShort(offset + BLOCK_LENGTH_OFFSET) & 0xFFFF;
+    }
+
+    public static int templateId(ByteBuffer buffer, int offset) {
+        return buffer.getShort(offset + TEMPLATE_ID_OFFSET) & 0xFFFF;
+    }
+
+    public static int schemaId(ByteBuffer buffer, int offset) {
+        return buffer.getShort(offset + SCHEMA_ID_OFFSET) & 0xFFFF;
+    }
+
+    public static int version(ByteBuffer buffer, int offset) {
+        return buffer.getShort(offset + VERSION_OFFSET) & 0xFFFF;
+    }
+
+    // Validates the header of a message about to be decoded as templateId
+    static void check(ByteBuffer buffer, int offset, int templateId) {
+        if (schemaId(buffer, offset) != SCHEMA_ID) {
+            throw new IllegalArgumentException("Unknown schema id " + schemaId(buffer, offset));
+        }
+        if (templateId(buffer, offset) != templateId) {
+            throw new IllegalArgumentException("Expected template " + templateId + " but got "
+                    + templateId(buffer, offset));
+        }
+        if (frameLength(buffer, offset) < LENGTH + blockLength(buffer, offset)) {
+            throw new IllegalArgumentException("Frame length " + frameLength(buffer, offset) + " is too short");
+        }
+        if (frameLength(buffer, offset) > buffer.limit() - offset) {
+            throw new IllegalArgumentException("Frame length " + frameLength(buffer, offset)
+                    + " runs past the buffer limit " + buffer.limit());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.hotel.codec;
+
+import java.nio.ByteBuffer;
+
+// Flyweight over an encoded reservation message
+public final class ReservationDecoder {
+    private ByteBuffer buffer;
+    private int offset;
+    private int blockLength;
+    private int guestIdOffset;
+    private int roomNumberOffset;
+
+    public ReservationDecoder wrap(ByteBuffer buffer, int offset) {
+        MessageHeader.check(buffer, offset, ReservationEncoder.TEMPLATE_ID);
+        this.buffer = buffer;
+        this.offset = offset;
+        this.blockLength = MessageHeader.blockLength(buffer, offset);
+        int frameEnd = offset + MessageHeader.frameLength(buffer, offset);
+        int pos = offset + MessageHeader.LENGTH + blockLength;
+        guestIdOffset = VarString.locate(buffer, pos, frameEnd);
+        roomNumberOffset = VarString.locate(buffer, pos + VarString.size(buffer, guestIdOffset), frameEnd);
+        return this;
+    }
+
+    public int encodedLength() {
+        return MessageHeader.frameLength(buffer, offset);
+    }
+
+    public long checkInMillis() {
+        return getLong(ReservationEncoder.CHECK_IN_OFFSET);
+    }
+
+    public long checkOutMillis() {
+        return getLong(ReservationEncoder.CHECK_OUT_OFFSET);
+    }
+
+    public long amountCents() {
+        return getLong(ReservationEncoder.AMOUNT_OFFSET);
+    }
+
+    public int nights() {
+        return ReservationEncoder.NIGHTS_OFFSET + 4 <= blockLength
+                ? buffer.getInt(offset + MessageHeader.LENGTH + ReservationEncoder.NIGHTS_OFFSET) : 0;
+    }
+
+    public String guestId() {
+        return VarString.read(buffer, guestIdOffset);
+    }
+
+    public boolean guestIdEquals(CharSequence asciiValue) {
+        return VarString.equalsAscii(buffer, guestIdOffset, asciiValue);
+    }
+
+    public String roomNumber() {
+        return VarString.read(buffer, roomNumberOffset);
+    }
+
+    private long getLong(int fieldOffset) {
+        return fieldOffset + 8 <= blockLength ? buffer.getLong(offset + MessageHeader.LENGTH + fieldOffset) : 0L;
+    }
+}
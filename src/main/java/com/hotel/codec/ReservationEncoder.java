@@ -0,0 +1,73 @@
+package com.hotel.codec;
+
+import java.nio.ByteBuffer;
+
+// Writes a reservation message. There is no reservation model class yet, so
+// the fields are set one by one; fixed fields first, then the variable ones
+// in schema order.
+//
+// Fixed block: int64 checkInMillis, int64 checkOutMillis, int64 amountCents, int32 nights
+// Variable:    guestId, roomNumber
+public final class ReservationEncoder {
+    public static final int TEMPLATE_ID = 3;
+    public static final int BLOCK_LENGTH = 28;
+
+    static final int CHECK_IN_OFFSET = 0;
+    static final int CHECK_OUT_OFFSET = 8;
+    static final int AMOUNT_OFFSET = 16;
+    static final int NIGHTS_OFFSET = 24;
+
+    private ByteBuffer buffer;
+    private int offset;
+    private int limit;
+
+    public ReservationEncoder wrap(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.limit = offset + MessageHeader.LENGTH + BLOCK_LENGTH;
+        MessageHeader.write(buffer, offset, BLOCK_LENGTH, TEMPLATE_ID);
+        return this;
+    }
+
+    public ReservationEncoder checkInMillis(long millis) {
+        buffer.putLong(block() + CHECK_IN_OFFSET, millis);
+        return this;
+    }
+
+    public ReservationEncoder checkOutMillis(long millis) {
+        buffer.putLong(block() + CHECK_OUT_OFFSET, millis);
+        return this;
+    }
+
+    public ReservationEncoder amountCents(long cents) {
+        buffer.putLong(block() + AMOUNT_OFFSET, cents);
+        return this;
+    }
+
+    public ReservationEncoder nights(int nights) {
+        buffer.putInt(block() + NIGHTS_OFFSET, nights);
+        return this;
+    }
+
+    // Variable fields must be written in order: guestId, then roomNumber
+    public ReservationEncoder guestId(CharSequence guestId) {
+        limit += VarString.write(buffer, limit, guestId);
+        return this;
+    }
+
+    public ReservationEncoder roomNumber(CharSequence roomNumber) {
+        limit += VarString.write(buffer, limit, roomNumber);
+        return this;
+    }
+
+    // Seals the frame; returns the message length
+    public int encodedLength() {
+        int length = limit - offset;
+        MessageHeader.writeFrameLength(buffer, offset, length);
+        return length;
+    }
+
+    private int block() {
+        return offset + MessageHeader.LENGTH;
+    }
+}
@@ -0,0 +1,73 @@
+package com.hotel.codec;
+
+import com.hotel.model.Room;
+import java.nio.ByteBuffer;
+
+// Flyweight over an encoded Room message
+public final class RoomDecoder {
+    private ByteBuffer buffer;
+    private int offset;
+    private int blockLength;
+    private int roomNumberOffset;
+    private int roomTypeOffset;
+
+    public RoomDecoder wrap(ByteBuffer buffer, int offset) {
+        MessageHeader.check(buffer, offset, RoomEncoder.TEMPLATE_ID);
+        this.buffer = buffer;
+        this.offset = offset;
+        this.blockLength = MessageHeader.blockLength(buffer, offset);
+        int frameEnd = offset + MessageHeader.frameLength(buffer, offset);
+        int pos = offset + MessageHeader.LENGTH + blockLength;
+        roomNumberOffset = VarString.locate(buffer, pos, frameEnd);
+        roomTypeOffset = VarString.locate(buffer, pos + VarString.size(buffer, roomNumberOffset), frameEnd);
+        return this;
+    }
+
+    public int encodedLength() {
+        return MessageHeader.frameLength(buffer, offset);
+    }
+
+    public int version() {
+        return MessageHeader.version(buffer, offset);
+    }
+
+    public long priceCents() {
+        return RoomEncoder.PRICE_OFFSET + 8 <= blockLength
+                ? buffer.getLong(block() + RoomEncoder.PRICE_OFFSET) : 0L;
+    }
+
+    public boolean occupied() {
+        return (flags() & RoomEncoder.OCCUPIED) != 0;
+    }
+
+    public boolean clean() {
+        return (flags() & RoomEncoder.CLEAN) != 0;
+    }
+
+    public String roomNumber() {
+        return VarString.read(buffer, roomNumberOffset);
+    }
+
+    public boolean roomNumberEquals(CharSequence asciiValue) {
+        return VarString.equalsAscii(buffer, roomNumberOffset, asciiValue);
+    }
+
+    public String roomType() {
+        return VarString.read(buffer, roomTypeOffset);
+    }
+
+    public Room toRoom() {
+        Room room = new Room(roomNumber(), roomType(), priceCents() / 100.0);
+        room.setOccupied(occupied());
+        room.setClean(clean());
+        return room;
+    }
+
+    private int flags() {
+        return RoomEncoder.FLAGS_OFFSET < blockLength ? buffer.get(block() + RoomEncoder.FLAGS_OFFSET) : 0;
+    }
+
+    private int block() {
+        return offset + MessageHeader.LENGTH;
+    }
+}
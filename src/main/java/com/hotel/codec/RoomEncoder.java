@@ -0,0 +1,42 @@
+package com.hotel.codec;
+
+import com.hotel.model.Room;
+import java.nio.ByteBuffer;
+
+// Writes a Room message straight into a ByteBuffer.
+//
+// Fixed block: int64 priceCents, int8 flags (occupied, clean)
+// Variable:    roomNumber, roomType
+public final class RoomEncoder {
+    public static final int TEMPLATE_ID = 2;
+    public static final int BLOCK_LENGTH = 9;
+
+    static final int PRICE_OFFSET = 0;
+    static final int FLAGS_OFFSET = 8;
+    static final int OCCUPIED = 1;
+    static final int CLEAN = 2;
+
+    private ByteBuffer buffer;
+    private int offset;
+
+    public RoomEncoder wrap(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+        MessageHeader.write(buffer, offset, BLOCK_LENGTH, TEMPLATE_ID);
+        return this;
+    }
+
+    // Encodes the room at the wrapped position; returns the message length
+    public int encode(Room room) {
+        int block = offset + MessageHeader.LENGTH;
+        buffer.putLong(block + PRICE_OFFSET, Math.round(room.getPrice() * 100));
+        int flags = (room.isOccupied() ? OCCUPIED : 0) | (room.isClean() ? CLEAN : 0);
+        buffer.put(block + FLAGS_OFFSET, (byte) flags);
+        int pos = block + BLOCK_LENGTH;
+        pos += VarString.write(buffer, pos, room.getRoomNumber());
+        pos += VarString.write(buffer, pos, room.getRoomType());
+        int length = pos - offset;
+        MessageHeader.writeFrameLength(buffer, offset, length);
+        return length;
+    }
+}
@@ -0,0 +1,141 @@
+package com.hotel.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// Variable-length string field: uint16 byte length followed by UTF-8 bytes.
+// Encoding writes characters straight into the buffer without building a
+// byte[] first. NULL_LENGTH marks a null string.
+final class VarString {
+    static final int NULL_LENGTH = 0xFFFF;
+    static final int MAX_LENGTH = 0xFFFE;
+    private static final int LENGTH_SIZE = 2;
+
+    private VarString() {
+    }
+
+    // Returns the number of bytes written, length prefix included
+    static int write(ByteBuffer buffer, int index, CharSequence value) {
+        if (value == null) {
+            buffer.putShort(index, (short) NULL_LENGTH);
+            return LENGTH_SIZE;
+        }
+        int pos = index + LENGTH_SIZE;
+        int n = value.length();
+        if (index >= 0 && n <= MAX_LENGTH && pos + n <= buffer.limit() && buffer.hasArray() && !buffer.isReadOnly()) {
+            // Optimistically copy the whole value as ASCII into the backing array,
+            // with no branch per character; keep it only if no character needed more
+            byte[] array = buffer.array();
+            int start = buffer.arrayOffset() + pos;
+            int bits = 0;
+            for (int i = 0; i < n; i++) {
+                char c = value.charAt(i);
+                bits |= c;
+                array[start + i] = (byte) c;
+            }
+            if (bits < 0x80) {
+                buffer.putShort(index, (short) n);
+                return LENGTH_SIZE + n;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put(pos++, (byte) c);
+            } else if (c < 0x800) {
+                buffer.put(pos++, (byte) (0xC0 | (c >> 6)));
+                buffer.put(pos++, (byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < n
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put(pos++, (byte) (0xF0 | (codePoint >> 18)));
+                buffer.put(pos++, (byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put(pos++, (byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put(pos++, (byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put(pos++, (byte) '?'); // unpaired surrogate, as String.getBytes does
+            } else {
+                buffer.put(pos++, (byte) (0xE0 | (c >> 12)));
+                buffer.put(pos++, (byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put(pos++, (byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        int length = pos - index - LENGTH_SIZE;
+        if (length > MAX_LENGTH) {
+            throw new IllegalArgumentException("String field longer than " + MAX_LENGTH + " bytes");
+        }
+        buffer.putShort(index, (short) length);
+        return pos - index;
+    }
+
+    // Byte length of the string at index, or NULL_LENGTH. A negative index
+    // stands for a field the sender's schema did not have yet.
+    static int length(ByteBuffer buffer, int index) {
+        return index < 0 ? NULL_LENGTH : buffer.getShort(index) & 0xFFFF;
+    }
+
+    // Start of the field at pos, or -1 if the frame ends before it. Throws if
+    // the field's length runs past the end of the frame, so size, read and copy
+    // can trust the lengths of located fields.
+    static int locate(ByteBuffer buffer, int pos, int frameEnd) {
+        if (pos + LENGTH_SIZE > frameEnd) {
+            return -1;
+        }
+        if (pos + size(buffer, pos) > frameEnd) {
+            throw new IllegalArgumentException("String field at " + pos + " of " + length(buffer, pos)
+                    + " bytes runs past the frame end " + frameEnd);
+        }
+        return pos;
+    }
+
+    // Total size of the field at index, length prefix included
+    static int size(ByteBuffer buffer, int index) {
+        if (index < 0) {
+            return 0;
+        }
+        int length = length(buffer, index);
+        return LENGTH_SIZE + (length == NULL_LENGTH ? 0 : length);
+    }
+
+    static String read(ByteBuffer buffer, int index) {
+        int length = length(buffer, index);
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + index + LENGTH_SIZE, length,
+                    StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(index + LENGTH_SIZE, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Copies the raw UTF-8 bytes into dst without creating a String; returns
+    // the byte count, or -1 for a null string
+    static int copy(ByteBuffer buffer, int index, byte[] dst, int dstOffset) {
+        int length = length(buffer, index);
+        if (length == NULL_LENGTH) {
+            return -1;
+        }
+        buffer.get(index + LENGTH_SIZE, dst, dstOffset, length);
+        return length;
+    }
+
+    // Compares the field against an ASCII value without decoding it
+    static boolean equalsAscii(ByteBuffer buffer, int index, CharSequence value) {
+        int length = length(buffer, index);
+        if (length == NULL_LENGTH || value == null) {
+            return length == NULL_LENGTH && value == null;
+        }
+        if (length != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(index + LENGTH_SIZE + i) != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,188 @@
+package com.hotel.config;
+
+import java.math.BigDecimal;
+import java.util.Properties;
+
+// Immutable, typed view of the "app.*" settings in application.properties.
+// Every value is parsed and validated once, when the config is built, so callers
+// on hot paths only read final primitive fields and never re-parse strings.
+// Money is held in cents, percentages in basis points (2000 = 20%) and clock
+// times in minutes since midnight.
+public final class AppConfig {
+    public static final String MAX_GUESTS_PER_ROOM = "app.max.guests.per.room";
+    public static final String CHECKIN_TIME = "app.checkin.time";
+    public static final String CHECKOUT_TIME = "app.checkout.time";
+    public static final String DEFAULT_LANGUAGE = "app.default.language";
+    public static final String ROOM_RATE = "app.room.rate";
+    public static final String PEAK_SEASON_SURCHARGE = "app.pricing.peak.season.surcharge";
+    public static final String LOYALTY_DISCOUNT = "app.pricing.loyalty.discount";
+    public static final String SENIOR_BONUS = "app.salary.bonus.senior";
+    public static final String MANAGER_BONUS = "app.salary.bonus.manager";
+    public static final String DIRECTOR_BONUS = "app.salary.bonus.director";
+
+    private static final int BASIS_POINTS = 10000;
+
+    private final int maxGuestsPerRoom;
+    private final int checkInMinuteOfDay;
+    private final int checkOutMinuteOfDay;
+    private final String defaultLanguage;
+    private final long roomRateCents;
+    private final int peakSeasonSurchargeBasisPoints;
+    private final int loyaltyDiscountBasisPoints;
+    private final long seniorBonusCents;
+    private final long managerBonusCents;
+    private final long directorBonusCents;
+
+    private AppConfig(Properties props) {
+        // Defaults match the values that used to be hardcoded in FrontDeskStaff
+        this.maxGuestsPerRoom = parseInt(props, MAX_GUESTS_PER_ROOM, "2");
+        this.checkInMinuteOfDay = parseTime(props, CHECKIN_TIME, "15:00");
+        this.checkOutMinuteOfDay = parseTime(props, CHECKOUT_TIME, "11:00");
+        this.defaultLanguage = props.getProperty(DEFAULT_LANGUAGE, "en").trim();
+        this.roomRateCents = parseAmount(props, ROOM_RATE, "2000");
+        this.peakSeasonSurchargeBasisPoints = parsePercent(props, PEAK_SEASON_SURCHARGE, "20%");
+        this.loyaltyDiscountBasisPoints = parsePercent(props, LOYALTY_DISCOUNT, "10%");
+        this.seniorBonusCents = parseAmount(props, SENIOR_BONUS, "15000");
+        this.managerBonusCents = parseAmount(props, MANAGER_BONUS, "30000");
+        this.directorBonusCents = parseAmount(props, DIRECTOR_BONUS, "50000");
+        validate();
+    }
+
+    // Builds and validates a config; throws IllegalArgumentException naming the bad key
+    public static AppConfig fromProperties(Properties props) {
+        return new AppConfig(props);
+    }
+
+    public static AppConfig defaults() {
+        return new AppConfig(new Properties());
+    }
+
+    private void validate() {
+        if (maxGuestsPerRoom < 1) {
+            throw new IllegalArgumentException(MAX_GUESTS_PER_ROOM + " must be at least 1");
+        }
+        if (checkOutMinuteOfDay >= checkInMinuteOfDay) {
+            throw new IllegalArgumentException(CHECKOUT_TIME + " must be earlier than " + CHECKIN_TIME);
+        }
+        if (defaultLanguage.isEmpty()) {
+            throw new IllegalArgumentException(DEFAULT_LANGUAGE + " must not be empty");
+        }
+        if (roomRateCents <= 0) {
+            throw new IllegalArgumentException(ROOM_RATE + " must be positive");
+        }
+        if (loyaltyDiscountBasisPoints > BASIS_POINTS) {
+            throw new IllegalArgumentException(LOYALTY_DISCOUNT + " must not exceed 100%");
+        }
+    }
+
+    private static String value(Properties props, String key, String defaultValue) {
+        return props.getProperty(key, defaultValue).trim();
+    }
+
+    private static int parseInt(Properties props, String key, String defaultValue) {
+        String raw = value(props, key, defaultValue);
+        try {
+            return Integer.parseInt(raw);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " is not an integer: " + raw, e);
+        }
+    }
+
+    // "HH:mm" -> minutes since midnight
+    private static int parseTime(Properties props, String key, String defaultValue) {
+        String raw = value(props, key, defaultValue);
+        int colon = raw.indexOf(':');
+        try {
+            int hours = Integer.parseInt(raw.substring(0, colon));
+            int minutes = Integer.parseInt(raw.substring(colon + 1));
+            if (hours < 0 || hours > 23 || minutes < 0 || minutes > 59) {
+                throw new IllegalArgumentException(key + " is out of range: " + raw);
+            }
+            return hours * 60 + minutes;
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException(key + " is not a HH:mm time: " + raw, e);
+        }
+    }
+
+    // "20%" -> 2000 basis points
+    private static int parsePercent(Properties props, String key, String defaultValue) {
+        String raw = value(props, key, defaultValue);
+        String number = raw.endsWith("%") ? raw.substring(0, raw.length() - 1).trim() : raw;
+        try {
+            int basisPoints = new BigDecimal(number).movePointRight(2).intValueExact();
+            if (basisPoints < 0) {
+                throw new IllegalArgumentException(key + " must not be negative: " + raw);
+            }
+            return basisPoints;
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw new IllegalArgumentException(key + " is not a percentage: " + raw, e);
+        }
+    }
+
+    // "2000" or "2000.50" -> cents
+    private static long parseAmount(Properties props, String key, String defaultValue) {
+        String raw = value(props, key, defaultValue);
+        try {
+            long cents = new BigDecimal(raw).movePointRight(2).longValueExact();
+            if (cents < 0) {
+                throw new IllegalArgumentException(key + " must not be negative: " + raw);
+            }
+            return cents;
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw new IllegalArgumentException(key + " is not an amount: " + raw, e);
+        }
+    }
+
+    public int getMaxGuestsPerRoom() {
+        return maxGuestsPerRoom;
+    }
+
+    public int getCheckInMinuteOfDay() {
+        return checkInMinuteOfDay;
+    }
+
+    public int getCheckOutMinuteOfDay() {
+        return checkOutMinuteOfDay;
+    }
+
+    public String getDefaultLanguage() {
+        return defaultLanguage;
+    }
+
+    public long getRoomRateCents() {
+        return roomRateCents;
+    }
+
+    public int getPeakSeasonSurchargeBasisPoints() {
+        return peakSeasonSurchargeBasisPoints;
+    }
+
+    public int getLoyaltyDiscountBasisPoints() {
+        return loyaltyDiscountBasisPoints;
+    }
+
+    public long getSeniorBonusCents() {
+        return seniorBonusCents;
+    }
+
+    public long getManagerBonusCents() {
+        return managerBonusCents;
+    }
+
+    public long getDirectorBonusCents() {
+        return directorBonusCents;
+    }
+
+    // Convenience for the existing double-based pricing code
+    public double getRoomRate() {
+        return roomRateCents / 100.0;
+    }
+
+    public double getPeakSeasonMultiplier() {
+        return 1 + peakSeasonSurchargeBasisPoints / (double) BASIS_POINTS;
+    }
+
+    public double getLoyaltyMultiplier() {
+        return 1 - loyaltyDiscountBasisPoints / (double) BASIS_POINTS;
+    }
+}
@@ -0,0 +1,78 @@
+package com.hotel.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Holds the active AppConfig. The config is loaded once at startup and can be
+// hot reloaded: a new AppConfig is fully parsed and validated first and only then
+// swapped in atomically, so readers always see either the old or the new config
+// and a bad edit to the properties file never replaces a good config.
+//
+// The copy on the classpath (inside the jar once packaged) provides the
+// defaults. Policy changes go in an external file named by -Dapp.config,
+// whose keys override the bundled ones; AppConfigWatcher reloads it when it
+// is edited, so no redeploy is needed.
+public final class AppConfigHolder {
+    public static final String RESOURCE_NAME = "application.properties";
+    public static final String CONFIG_PATH_PROPERTY = "app.config";
+
+    private static final AtomicReference<AppConfig> CURRENT = new AtomicReference<>(AppConfig.defaults());
+
+    private AppConfigHolder() {
+    }
+
+    public static AppConfig current() {
+        return CURRENT.get();
+    }
+
+    // Loads application.properties from the classpath, overlaid with the file
+    // named by -Dapp.config when set; falls back to defaults when both are absent
+    public static AppConfig load() {
+        Path external = externalConfigPath();
+        return external != null ? reload(external) : reload(readClasspathProperties());
+    }
+
+    // Re-reads an external properties file on top of the bundled defaults
+    public static AppConfig reload(Path file) {
+        Properties props = readClasspathProperties();
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            props.load(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read " + file, e);
+        }
+        return reload(props);
+    }
+
+    // The file named by -Dapp.config, or null when running on the bundled config only
+    public static Path externalConfigPath() {
+        String path = System.getProperty(CONFIG_PATH_PROPERTY);
+        return path == null || path.isBlank() ? null : Paths.get(path);
+    }
+
+    // Validates the new settings before publishing them; the old config stays active on failure
+    public static AppConfig reload(Properties props) {
+        AppConfig next = AppConfig.fromProperties(props);
+        CURRENT.set(next);
+        return next;
+    }
+
+    private static Properties readClasspathProperties() {
+        Properties props = new Properties();
+        try (InputStream in = AppConfigHolder.class.getClassLoader().getResourceAsStream(RESOURCE_NAME)) {
+            if (in != null) {
+                props.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read " + RESOURCE_NAME, e);
+        }
+        return props;
+    }
+}
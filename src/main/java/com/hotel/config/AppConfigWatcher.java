@@ -0,0 +1,67 @@
+package com.hotel.config;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+// Reloads an external config file whenever it is written. Runs on a daemon
+// thread; a reload that fails validation is reported and the previous config
+// stays active.
+public final class AppConfigWatcher implements Closeable {
+    private final Path file;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    private AppConfigWatcher(Path file) throws IOException {
+        this.file = file.toAbsolutePath();
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.file.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        this.thread = new Thread(this::run, "app-config-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    public static AppConfigWatcher start(Path file) throws IOException {
+        AppConfigWatcher watcher = new AppConfigWatcher(file);
+        watcher.thread.start();
+        return watcher;
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    changed |= file.getFileName().equals(event.context());
+                }
+                key.reset();
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed
+        }
+    }
+
+    private void reload() {
+        try {
+            AppConfigHolder.reload(file);
+            System.out.println("Reloaded configuration from " + file);
+        } catch (RuntimeException e) {
+            System.out.println("Configuration in " + file + " rejected, keeping previous settings: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
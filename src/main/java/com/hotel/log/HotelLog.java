@@ -0,0 +1,12 @@
+package com.hotel.log;
+
+// Where staff and services report what they are doing. STDOUT looks up
+// System.out on every message, so it follows System.setOut; QUIET drops
+// everything, for load runs that must not serialize on the console stream.
+@FunctionalInterface
+public interface HotelLog {
+    HotelLog STDOUT = message -> System.out.println(message);
+    HotelLog QUIET = message -> { };
+
+    void println(Object message);
+}
@@ -20,7 +20,7 @@ public class Chef extends Person {
     // CODE SMELL 10: Dead Code
     // Issue: This method is never used and should be removed
     private void oldCookingMethod() {
-        System.out.println("This is an old cooking method, no longer used");
+        getLog().println("This is an old cooking method, no longer used");
         // outdated logic...
     }
 
@@ -30,7 +30,7 @@ public class Chef extends Person {
     }
 
     public void prepareMeal(String dishName, int quantity) {
-        System.out.println("Preparing " + quantity + " portions of " + dishName);
+        getLog().println("Preparing " + quantity + " portions of " + dishName);
         // cooking logic
     }
 
@@ -40,13 +40,13 @@ public class Chef extends Person {
                                   String allergies, String preferences,
                                   String cookingMethod, String presentation) {
         // Overly complex special diet preparation feature, may never be fully utilized
-        System.out.println("Preparing special diet");
+        getLog().println("Preparing special diet");
     }
 
     public void displaySpecialty() {
-        System.out.println("Chef: " + getName());
-        System.out.println("Specialty: " + specialty);
-        System.out.println("Years of experience: " + yearsOfExperience);
+        getLog().println("Chef: " + getName());
+        getLog().println("Specialty: " + specialty);
+        getLog().println("Years of experience: " + yearsOfExperience);
     }
 
     public String getSpecialty() {
@@ -1,5 +1,11 @@
 package com.hotel.model;
 
+import com.hotel.billing.ChargeType;
+import com.hotel.billing.FolioLedger;
+import com.hotel.billing.Money;
+import com.hotel.config.AppConfig;
+import com.hotel.config.AppConfigHolder;
+import com.hotel.scheduler.HotelEventScheduler;
 import java.util.Date;
 
 // CODE SMELL 1: Long Class
@@ -11,15 +17,13 @@ public class FrontDeskStaff extends Person {
     // Issue: Numeric literals used directly without named constants
     private double baseSalary = 30000; // Should use named constants
     private int workHours = 8; // Should use named constants
+    private FolioLedger ledger; // room charges are posted here at check-in, if set
+    private HotelEventScheduler eventScheduler;
     
-    // CODE SMELL 6: Divergent Change
-    // Issue: Class needs modification for multiple different reasons (salary changes, shift changes, pricing changes, date calculation changes)
-    // When business rules change, this class is modified for various unrelated reasons
-    private double seniorStaffBonus = 15000; // Changes when senior bonus policy changes
-    private double managerBonus = 30000; // Changes when manager bonus policy changes
-    private double directorBonus = 50000; // Changes when director bonus policy changes
-    private String peakSeasonSurcharge = "20%"; // Changes when pricing policy changes
-    private String loyaltyDiscountRate = "10%"; // Changes when discount policy changes
+    // CODE SMELL 6: Divergent Change (partly refactored)
+    // Issue: Class still changes for several different reasons (shift changes, date calculation changes)
+    // Refactoring applied: bonus, pricing and discount values moved to AppConfig, so
+    // salary and pricing policy changes no longer require editing this class
     
     public FrontDeskStaff(String name, int age, String contactInfo, String shift, String[] responsibilities) {
         super(name, age, contactInfo);
@@ -29,46 +33,53 @@ public class FrontDeskStaff extends Person {
 
     // CODE SMELL 3: Long Method
     // Issue: Method contains too much logic and should be split into smaller methods
-    public void checkIn(Guest guest, String roomNumber, int nights) {
-        System.out.println("=== Begin check-in ===");
-        System.out.println("Guest name: " + guest.getName());
-        System.out.println("Room number: " + roomNumber);
+    // Returns false if the guest was rejected
+    public boolean checkIn(Guest guest, String roomNumber, int nights) {
+        getLog().println("=== Begin check-in ===");
+        getLog().println("Guest name: " + guest.getName());
+        getLog().println("Room number: " + roomNumber);
         
         // Validate guest information
         if (guest.getName() == null || guest.getName().isEmpty()) {
-            System.out.println("Error: Guest name cannot be empty");
-            return;
+            getLog().println("Error: Guest name cannot be empty");
+            return false;
         }
         
-    // Set room
-        guest.setRoomNumber(roomNumber);
     // set check-in date
         Date now = new Date();
-        guest.setCheckInDate(now);
     // calculate check-out date - uses magic number
-        Date checkOut = new Date(now.getTime() + nights * 24 * 60 * 60 * 1000);
-        guest.setCheckOutDate(checkOut);
-    // calculate cost - uses magic number
-        double roomRate = 2000;
+        Date checkOut = new Date(now.getTime() + nights * 24L * 60 * 60 * 1000);
+    // Set room and dates in one step, so hotel snapshots never see half a check-in
+        guest.setStay(roomNumber, now, checkOut);
+    // calculate cost
+        double roomRate = AppConfigHolder.current().getRoomRate();
         double totalCost = roomRate * nights;
         // print receipt
-        System.out.println("Nights: " + nights);
-        System.out.println("Rate per night: " + roomRate);
-        System.out.println("Total cost: " + totalCost);
-        System.out.println("=== Check-in completed ===");
+        getLog().println("Nights: " + nights);
+        getLog().println("Rate per night: " + roomRate);
+        getLog().println("Total cost: " + totalCost);
+        if (ledger != null) {
+            long roomChargeCents = AppConfigHolder.current().getRoomRateCents() * nights;
+            ledger.post(guest, ChargeType.ROOM, "Room " + roomNumber + " x " + nights + " nights", roomChargeCents);
+        }
+        if (eventScheduler != null) {
+            eventScheduler.scheduleCheckOut(guest);
+        }
+        getLog().println("=== Check-in completed ===");
+        return true;
     }
 
     // CODE SMELL 4: Duplicate Code
     // Issue: Large overlap with checkIn method validation and calculation logic
-    public void checkOut(Guest guest) {
-        System.out.println("=== Begin check-out ===");
-        System.out.println("Guest name: " + guest.getName());
-        System.out.println("Room number: " + guest.getRoomNumber());
+    public boolean checkOut(Guest guest) {
+        getLog().println("=== Begin check-out ===");
+        getLog().println("Guest name: " + guest.getName());
+        getLog().println("Room number: " + guest.getRoomNumber());
         
         // duplicated validation logic
         if (guest.getName() == null || guest.getName().isEmpty()) {
-            System.out.println("Error: Guest name cannot be empty");
-            return;
+            getLog().println("Error: Guest name cannot be empty");
+            return false;
         }
         
         Date checkIn = guest.getCheckInDate();
@@ -76,59 +87,89 @@ public class FrontDeskStaff extends Person {
         long diff = checkOut.getTime() - checkIn.getTime();
         long days = diff / (24 * 60 * 60 * 1000); // duplicated magic number
 
-        double roomRate = 2000; // duplicated magic number
+        double roomRate = AppConfigHolder.current().getRoomRate();
         double totalCost = roomRate * days;
 
-        System.out.println("Actual nights stayed: " + days);
-        System.out.println("Total cost: " + totalCost);
-        System.out.println("=== Check-out completed ===");
+        getLog().println("Actual nights stayed: " + days);
+        getLog().println("Total cost: " + totalCost);
+        if (ledger != null) {
+            getLog().println("Folio balance: " + Money.format(ledger.balanceOf(guest)));
+        }
+        if (eventScheduler != null) {
+            eventScheduler.cancelCheckOut(guest);
+        }
+        getLog().println("=== Check-out completed ===");
+        return true;
+    }
+
+    // Called by the event scheduler when a guest's check-out time passes;
+    // checkIn schedules the event and checkOut cancels it
+    public void handleDueCheckOut(Guest guest) {
+        getLog().println("Late check-out: " + guest.getName() + " has not left room " + guest.getRoomNumber());
     }
 
     // CODE SMELL 5: Feature Envy
     // Issue: Overuse of another class's data; this should belong in Guest
     public void printGuestDetails(Guest guest) {
-        System.out.println("Name: " + guest.getName());
-        System.out.println("Age: " + guest.getAge());
-        System.out.println("Contact: " + guest.getContactInfo());
-        System.out.println("Room number: " + guest.getRoomNumber());
-        System.out.println("Check-in date: " + guest.getCheckInDate());
+        getLog().println("Name: " + guest.getName());
+        getLog().println("Age: " + guest.getAge());
+        getLog().println("Contact: " + guest.getContactInfo());
+        getLog().println("Room number: " + guest.getRoomNumber());
+        getLog().println("Check-in date: " + guest.getCheckInDate());
     }
 
-    // Modified to demonstrate Divergent Change instead of Switch Statement
-    // This class changes for multiple reasons: salary policy, pricing policy, discount policy
+    // Bonus amounts come from AppConfig; only the salary rules live here
     public double calculateSalaryWithBonus(String position) {
+        AppConfig config = AppConfigHolder.current();
         // Changes when base salary policy changes
         double salary = baseSalary;
         
-        // Changes when bonus policy changes
+        // Bonus policy is configured in application.properties
         if (position.equals("senior")) {
-            salary += seniorStaffBonus;
+            salary += config.getSeniorBonusCents() / 100.0;
         } else if (position.equals("manager")) {
-            salary += managerBonus;
+            salary += config.getManagerBonusCents() / 100.0;
         } else if (position.equals("director")) {
-            salary += directorBonus;
+            salary += config.getDirectorBonusCents() / 100.0;
         }
         
         return salary;
     }
     
-    // Changes when pricing policy changes
+    // Pricing policy is configured in application.properties
     public double calculateRoomPrice(int nights, boolean isPeakSeason) {
-        double basePrice = 2000 * nights;
+        AppConfig config = AppConfigHolder.current();
+        double basePrice = config.getRoomRate() * nights;
         if (isPeakSeason) {
-            basePrice *= 1.2; // 20% surcharge
+            basePrice *= config.getPeakSeasonMultiplier();
         }
         return basePrice;
     }
     
-    // Changes when discount policy changes
+    // Discount policy is configured in application.properties
     public double applyLoyaltyDiscount(double amount, boolean isLoyalMember) {
         if (isLoyalMember) {
-            return amount * 0.9; // 10% discount
+            return amount * AppConfigHolder.current().getLoyaltyMultiplier();
         }
         return amount;
     }
 
+    public FolioLedger getLedger() {
+        return ledger;
+    }
+
+    public void setLedger(FolioLedger ledger) {
+        this.ledger = ledger;
+    }
+
+    public HotelEventScheduler getEventScheduler() {
+        return eventScheduler;
+    }
+
+    public void setEventScheduler(HotelEventScheduler eventScheduler) {
+        this.eventScheduler = eventScheduler;
+    }
+
     public String getShift() {
         return shift;
     }
@@ -1,24 +1,76 @@
 package com.hotel.model;
 
 import java.util.Date;
+import java.util.function.Consumer;
 
 public class Guest extends Person {
     private String guestId;
     private String roomNumber;
     private Date checkInDate;
     private Date checkOutDate;
+    private Consumer<Guest> changeListener; // notified when name or contact info changes
+    private Consumer<Guest> stateListener; // notified after any change to the guest
 
     public Guest(String name, int age, String contactInfo, String guestId) {
         super(name, age, contactInfo);
         this.guestId = guestId;
     }
 
+    @Override
+    public void setName(String name) {
+        super.setName(name);
+        notifyChanged();
+        notifyState();
+    }
+
+    @Override
+    public void setContactInfo(String contactInfo) {
+        super.setContactInfo(contactInfo);
+        notifyChanged();
+        notifyState();
+    }
+
+    @Override
+    public void setAge(int age) {
+        super.setAge(age);
+        notifyState();
+    }
+
+    public void setChangeListener(Consumer<Guest> changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    public void setStateListener(Consumer<Guest> stateListener) {
+        this.stateListener = stateListener;
+    }
+
+    // Sets room and stay dates together, so listeners see one complete change
+    public void setStay(String roomNumber, Date checkInDate, Date checkOutDate) {
+        this.roomNumber = roomNumber;
+        this.checkInDate = checkInDate;
+        this.checkOutDate = checkOutDate;
+        notifyState();
+    }
+
+    private void notifyChanged() {
+        if (changeListener != null) {
+            changeListener.accept(this);
+        }
+    }
+
+    private void notifyState() {
+        if (stateListener != null) {
+            stateListener.accept(this);
+        }
+    }
+
     public String getGuestId() {
         return guestId;
     }
 
     public void setGuestId(String guestId) {
         this.guestId = guestId;
+        notifyState();
     }
 
     public String getRoomNumber() {
@@ -27,6 +79,7 @@ public class Guest extends Person {
 
     public void setRoomNumber(String roomNumber) {
         this.roomNumber = roomNumber;
+        notifyState();
     }
 
     public Date getCheckInDate() {
@@ -35,6 +88,7 @@ public class Guest extends Person {
 
     public void setCheckInDate(Date checkInDate) {
         this.checkInDate = checkInDate;
+        notifyState();
     }
 
     public Date getCheckOutDate() {
@@ -43,5 +97,6 @@ public class Guest extends Person {
 
     public void setCheckOutDate(Date checkOutDate) {
         this.checkOutDate = checkOutDate;
+        notifyState();
     }
 }
\ No newline at end of file
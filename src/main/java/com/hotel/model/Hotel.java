@@ -1,7 +1,15 @@
 package com.hotel.model;
 
+import com.hotel.config.AppConfigHolder;
+import com.hotel.search.GuestSearchIndex;
+import com.hotel.search.TermPostings;
+import com.hotel.snapshot.GuestState;
+import com.hotel.snapshot.HotelSnapshot;
+import com.hotel.snapshot.RoomState;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 // CODE SMELL 12: God Class
 // Issue: Class takes too many responsibilities, managing all hotel-related business
@@ -16,6 +24,12 @@ public class Hotel extends Person {
     private List<FrontDeskStaff> frontDeskStaffs;
     private List<Housekeeper> housekeepers;
     private List<Chef> chefs;
+    private GuestSearchIndex guestIndex;
+    // guests checked in through this hotel: guestId -> room, and the count per room
+    private final Map<String, String> roomOfGuest = new HashMap<>();
+    private final Map<String, Integer> guestsPerRoom = new HashMap<>();
+    // Latest published version; written only under this hotel's lock
+    private volatile HotelSnapshot snapshot = HotelSnapshot.EMPTY;
 
     public Hotel(String hotelName, String address) {
         // Forced to call parent constructor even though Hotel is not a Person
@@ -27,6 +41,7 @@ public class Hotel extends Person {
         this.frontDeskStaffs = new ArrayList<>();
         this.housekeepers = new ArrayList<>();
         this.chefs = new ArrayList<>();
+        this.guestIndex = new GuestSearchIndex();
     }
     
     // Refused Bequest: Inherits reportWorkSchedule() but doesn't implement it properly
@@ -52,8 +67,8 @@ public class Hotel extends Person {
             String roomNum = guests.get(0).getRoomNumber();
             for (Room room : rooms) {
                 if (room.getRoomNumber().equals(roomNum)) {
-                    System.out.println("Room type: " + room.getRoomType());
-                    System.out.println("Price: " + room.getPrice());
+                    getLog().println("Room type: " + room.getRoomType());
+                    getLog().println("Price: " + room.getPrice());
                 }
             }
         }
@@ -63,13 +78,9 @@ public class Hotel extends Person {
     // Replaced with proper Refused Bequest in class inheritance
     public void manageAllServices(Guest guest, String service) {
         if (service.equals("checkin")) {
-            if (frontDeskStaffs.size() > 0) {
-                frontDeskStaffs.get(0).checkIn(guest, "101", 3);
-            }
+            checkIn(guest, "101", 3);
         } else if (service.equals("checkout")) {
-            if (frontDeskStaffs.size() > 0) {
-                frontDeskStaffs.get(0).checkOut(guest);
-            }
+            checkOut(guest);
         } else if (service.equals("clean")) {
             if (housekeepers.size() > 0) {
                 housekeepers.get(0).cleanRoom("101", true, true, true, true, true);
@@ -81,34 +92,171 @@ public class Hotel extends Person {
         }
     }
 
-    public void addRoom(Room room) {
+    // Checks the guest in at the front desk unless the room already holds
+    // app.max.guests.per.room guests. Checking a guest in again to the room
+    // they hold changes nothing.
+    public synchronized boolean checkIn(Guest guest, String roomNumber, int nights) {
+        if (guest.getGuestId() == null) {
+            throw new IllegalArgumentException("Guest id must not be null");
+        }
+        if (frontDeskStaffs.isEmpty()) {
+            return false;
+        }
+        String held = roomOfGuest.get(guest.getGuestId());
+        if (held != null) {
+            if (!held.equals(roomNumber)) {
+                getLog().println(guest.getName() + " is already checked in to room " + held);
+            }
+            return held.equals(roomNumber);
+        }
+        int inRoom = guestsPerRoom.getOrDefault(roomNumber, 0);
+        int maxGuests = AppConfigHolder.current().getMaxGuestsPerRoom();
+        if (inRoom >= maxGuests) {
+            getLog().println("Room " + roomNumber + " is full (" + maxGuests + " guests max), cannot check in "
+                    + guest.getName());
+            return false;
+        }
+        if (!frontDeskStaffs.get(0).checkIn(guest, roomNumber, nights)) {
+            return false;
+        }
+        roomOfGuest.put(guest.getGuestId(), roomNumber);
+        guestsPerRoom.put(roomNumber, inRoom + 1);
+        return true;
+    }
+
+    // Returns false if the guest is not checked in through this hotel
+    public synchronized boolean checkOut(Guest guest) {
+        String room = roomOfGuest.get(guest.getGuestId());
+        if (room == null || frontDeskStaffs.isEmpty()) {
+            return false;
+        }
+        if (!frontDeskStaffs.get(0).checkOut(guest)) {
+            return false;
+        }
+        roomOfGuest.remove(guest.getGuestId());
+        guestsPerRoom.computeIfPresent(room, (number, count) -> count > 1 ? count - 1 : null);
+        return true;
+    }
+
+    public synchronized boolean isCheckedIn(Guest guest) {
+        return roomOfGuest.containsKey(guest.getGuestId());
+    }
+
+    // Guests checked in to the room through this hotel
+    public synchronized int getGuestCount(String roomNumber) {
+        return guestsPerRoom.getOrDefault(roomNumber, 0);
+    }
+
+    public synchronized int getCheckedInGuestCount() {
+        return roomOfGuest.size();
+    }
+
+    // Rooms holding at least one guest checked in through this hotel
+    public synchronized int getOccupiedRoomCount() {
+        return guestsPerRoom.size();
+    }
+
+    public synchronized void addRoom(Room room) {
+        int index = rooms.size();
         rooms.add(room);
+        snapshot = snapshot.withRoom(RoomState.of(room));
+        // occupancy and cleaning changes publish a new snapshot version
+        room.setStateListener(changed -> publishRoom(index, changed));
     }
 
-    public void addGuest(Guest guest) {
+    public synchronized void addGuest(Guest guest) {
+        int index = guests.size();
         guests.add(guest);
+        snapshot = snapshot.withGuest(GuestState.of(guest));
+        guestIndex.add(guest);
+        // keep the search index in sync when the front desk edits the guest
+        guest.setChangeListener(guestIndex::update);
+        // check-ins and check-outs publish a new snapshot version
+        guest.setStateListener(changed -> publishGuest(index, changed));
+    }
+
+    // Bulk load (e.g. from an inventory image): builds the snapshot vectors and
+    // the search index once for the whole batch instead of once per item
+    public synchronized void addRooms(List<Room> added) {
+        int first = rooms.size();
+        rooms.addAll(added);
+        List<RoomState> states = new ArrayList<>(added.size());
+        for (int i = 0; i < added.size(); i++) {
+            Room room = added.get(i);
+            int index = first + i;
+            states.add(RoomState.of(room));
+            room.setStateListener(changed -> publishRoom(index, changed));
+        }
+        snapshot = snapshot.withRooms(states);
+    }
+
+    public synchronized void addGuests(List<Guest> added) {
+        addGuests(added, null);
+    }
+
+    // postings, when not null, are the guests' search terms exported with them
+    // (see GuestSearchIndex.export), so the guests need not be tokenized again
+    public synchronized void addGuests(List<Guest> added, TermPostings postings) {
+        int first = guests.size();
+        guests.addAll(added);
+        List<GuestState> states = new ArrayList<>(added.size());
+        for (int i = 0; i < added.size(); i++) {
+            Guest guest = added.get(i);
+            int index = first + i;
+            states.add(GuestState.of(guest));
+            guest.setChangeListener(guestIndex::update);
+            guest.setStateListener(changed -> publishGuest(index, changed));
+        }
+        if (postings == null) {
+            guestIndex.addAll(added);
+        } else {
+            guestIndex.addAll(added, postings);
+        }
+        snapshot = snapshot.withGuests(states);
     }
 
-    public void addFrontDeskStaff(FrontDeskStaff staff) {
+    private synchronized void publishRoom(int index, Room room) {
+        snapshot = snapshot.withRoom(index, RoomState.of(room));
+    }
+
+    private synchronized void publishGuest(int index, Guest guest) {
+        snapshot = snapshot.withGuest(index, GuestState.of(guest));
+    }
+
+    // Search guests by partial name, email or phone, tolerating small typos
+    public List<Guest> searchGuests(String query) {
+        return guestIndex.search(query);
+    }
+
+    public synchronized void addFrontDeskStaff(FrontDeskStaff staff) {
         frontDeskStaffs.add(staff);
+        snapshot = snapshot.withFrontDeskStaff(staff);
     }
 
-    public void addHousekeeper(Housekeeper housekeeper) {
+    public synchronized void addHousekeeper(Housekeeper housekeeper) {
         housekeepers.add(housekeeper);
+        snapshot = snapshot.withHousekeeper(housekeeper);
     }
 
-    public void addChef(Chef chef) {
+    public synchronized void addChef(Chef chef) {
         chefs.add(chef);
+        snapshot = snapshot.withChef(chef);
+    }
+
+    // Consistent point-in-time view for reports; O(1) and never blocks writers
+    public HotelSnapshot snapshot() {
+        return snapshot;
     }
 
     public void displayHotelInfo() {
-        System.out.println("Hotel name: " + hotelName);
-        System.out.println("Address: " + address);
-        System.out.println("Total rooms: " + rooms.size());
-        System.out.println("Total guests: " + guests.size());
-        System.out.println("Front desk staff count: " + frontDeskStaffs.size());
-        System.out.println("Housekeeper count: " + housekeepers.size());
-        System.out.println("Chef count: " + chefs.size());
+        HotelSnapshot view = snapshot;
+        getLog().println("Hotel name: " + hotelName);
+        getLog().println("Address: " + address);
+        getLog().println("Total rooms: " + view.getRooms().size());
+        getLog().println("Total guests: " + view.getGuests().size());
+        getLog().println("Front desk staff count: " + view.getFrontDeskStaffs().size());
+        getLog().println("Housekeeper count: " + view.getHousekeepers().size());
+        getLog().println("Chef count: " + view.getChefs().size());
     }
 
     public String getHotelName() {
@@ -119,6 +267,7 @@ public class Hotel extends Person {
         return address;
     }
 
+    // Live, mutable lists; long-running reports should read snapshot() instead
     public List<Room> getRooms() {
         return rooms;
     }
@@ -138,4 +287,8 @@ public class Hotel extends Person {
     public List<Chef> getChefs() {
         return chefs;
     }
+
+    public GuestSearchIndex getGuestIndex() {
+        return guestIndex;
+    }
 }
\ No newline at end of file
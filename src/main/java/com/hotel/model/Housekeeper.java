@@ -1,16 +1,19 @@
 package com.hotel.model;
 
+import com.hotel.supplies.SupplyInventory;
+import java.util.concurrent.atomic.AtomicInteger;
+
 // CODE SMELL 7: Data Class
 // Issue: Class mainly holds data and getters/setters, lacking meaningful behavior
 public class Housekeeper extends Person {
     private String assignedFloor;
-    private int roomsCleaned;
+    private final AtomicInteger roomsCleaned = new AtomicInteger(); // rooms may be reported from many threads
     private boolean isAvailable;
+    private volatile SupplyInventory supplyInventory;
 
     public Housekeeper(String name, int age, String contactInfo, String assignedFloor) {
         super(name, age, contactInfo);
         this.assignedFloor = assignedFloor;
-        this.roomsCleaned = 0;
         this.isAvailable = true;
     }
 
@@ -18,20 +21,24 @@ public class Housekeeper extends Person {
     // Issue: Too many parameters, should use a parameter object
     public void cleanRoom(String roomNumber, boolean deepClean, boolean changeSheets, 
                          boolean vacuumCarpet, boolean cleanBathroom, boolean restockSupplies) {
-        System.out.println("Cleaning room: " + roomNumber);
-        if (deepClean) System.out.println("Performing deep clean");
-        if (changeSheets) System.out.println("Changing sheets");
-        if (vacuumCarpet) System.out.println("Vacuuming carpet");
-        if (cleanBathroom) System.out.println("Cleaning bathroom");
-        if (restockSupplies) System.out.println("Restocking supplies");
-        roomsCleaned++;
+        getLog().println("Cleaning room: " + roomNumber);
+        if (deepClean) getLog().println("Performing deep clean");
+        if (changeSheets) getLog().println("Changing sheets");
+        if (vacuumCarpet) getLog().println("Vacuuming carpet");
+        if (cleanBathroom) getLog().println("Cleaning bathroom");
+        if (restockSupplies) getLog().println("Restocking supplies");
+        SupplyInventory inventory = supplyInventory;
+        if (inventory != null) {
+            inventory.recordCleaning(assignedFloor, changeSheets, restockSupplies);
+        }
+        roomsCleaned.incrementAndGet();
     }
 
     public void reportStatus() {
-        System.out.println("Housekeeper: " + getName());
-        System.out.println("Assigned floor: " + assignedFloor);
-        System.out.println("Rooms cleaned: " + roomsCleaned);
-        System.out.println("Is available: " + isAvailable);
+        getLog().println("Housekeeper: " + getName());
+        getLog().println("Assigned floor: " + assignedFloor);
+        getLog().println("Rooms cleaned: " + roomsCleaned.get());
+        getLog().println("Is available: " + isAvailable);
     }
 
     public String getAssignedFloor() {
@@ -43,11 +50,20 @@ public class Housekeeper extends Person {
     }
 
     public int getRoomsCleaned() {
-        return roomsCleaned;
+        return roomsCleaned.get();
     }
 
     public void setRoomsCleaned(int roomsCleaned) {
-        this.roomsCleaned = roomsCleaned;
+        this.roomsCleaned.set(roomsCleaned);
+    }
+
+    public SupplyInventory getSupplyInventory() {
+        return supplyInventory;
+    }
+
+    // Supplies used by cleanRoom are drawn from this inventory's stock for the assigned floor
+    public void setSupplyInventory(SupplyInventory supplyInventory) {
+        this.supplyInventory = supplyInventory;
     }
 
     public boolean isAvailable() {
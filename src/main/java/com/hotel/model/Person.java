@@ -1,10 +1,13 @@
 package com.hotel.model;
 
+import com.hotel.log.HotelLog;
+
 // Person class definition, contains name, age and contact information
 public class Person {
     private String name; // Name
     private int age; // Age
     private String contactInfo; // Contact information
+    private HotelLog log = HotelLog.STDOUT; // where this person reports their work
 
     // Constructor
     public Person(String name, int age, String contactInfo) {
@@ -43,18 +46,28 @@ public class Person {
         this.contactInfo = contactInfo;
     }
 
+    // Get log
+    public HotelLog getLog() {
+        return log;
+    }
+
+    // Set log
+    public void setLog(HotelLog log) {
+        this.log = log;
+    }
+
     // Long method demonstration, possible code smell issue: Long Method
     public void displayPersonInfo() {
-        System.out.println("Name: " + name);
-        System.out.println("Age: " + age);
-        System.out.println("Contact: " + contactInfo);
+        log.println("Name: " + name);
+        log.println("Age: " + age);
+        log.println("Contact: " + contactInfo);
         // More display logic could be added here, causing method to become too long
     }
     
     // Method intended for subclasses to override
     // Provides work schedule reporting functionality
     public void reportWorkSchedule() {
-        System.out.println("Work schedule not specified");
+        log.println("Work schedule not specified");
     }
     
     // Method intended for subclasses to override
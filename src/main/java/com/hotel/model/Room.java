@@ -1,13 +1,17 @@
 package com.hotel.model;
 
+import java.util.function.Consumer;
+
 // CODE SMELL 15: Unsuitable Naming
 // Issue: Variable and method names are unclear, inconsistent or misleading
 public class Room {
     private String roomNumber;
     private String roomType;
     private double price;
-    private boolean isOccupied;
-    private boolean isClean;
+    // volatile: reservations look for free rooms while other threads check
+    // guests out and clean
+    private volatile boolean isOccupied;
+    private volatile boolean isClean;
     
     // CODE SMELL 15: Unsuitable Naming - unclear abbreviation
     private int n;  // What does 'n' mean? Should be 'numberOfGuests' or 'nightsBooked'
@@ -15,6 +19,8 @@ public class Room {
     // CODE SMELL 15: Unsuitable Naming - misleading name
     private String temp;  // Temporary? Temperature? Should have a clear purpose
 
+    private Consumer<Room> stateListener; // notified after any change to the room
+
     public Room(String roomNumber, String roomType, double price) {
         this.roomNumber = roomNumber;
         this.roomType = roomType;
@@ -37,6 +43,7 @@ public class Room {
 
     public void setRoomNumber(String roomNumber) {
         this.roomNumber = roomNumber;
+        notifyState();
     }
 
     public String getRoomType() {
@@ -45,6 +52,7 @@ public class Room {
 
     public void setRoomType(String roomType) {
         this.roomType = roomType;
+        notifyState();
     }
 
     public double getPrice() {
@@ -53,6 +61,7 @@ public class Room {
 
     public void setPrice(double price) {
         this.price = price;
+        notifyState();
     }
 
     public boolean isOccupied() {
@@ -61,6 +70,7 @@ public class Room {
 
     public void setOccupied(boolean occupied) {
         isOccupied = occupied;
+        notifyState();
     }
 
     public boolean isClean() {
@@ -69,12 +79,24 @@ public class Room {
 
     public void setClean(boolean clean) {
         isClean = clean;
+        notifyState();
+    }
+
+    public void setStateListener(Consumer<Room> stateListener) {
+        this.stateListener = stateListener;
+    }
+
+    private void notifyState() {
+        if (stateListener != null) {
+            stateListener.accept(this);
+        }
     }
     
     // CODE SMELL 15: Unsuitable Naming - method name doesn't describe what it does
     public void doIt() {  // What does this method do? Should be 'markRoomAsOccupied' or similar
         isOccupied = true;
         n++;
+        notifyState();
     }
     
     // CODE SMELL 15: Unsuitable Naming - inconsistent naming convention
@@ -0,0 +1,298 @@
+package com.hotel.persistence;
+
+import com.hotel.model.Chef;
+import com.hotel.model.FrontDeskStaff;
+import com.hotel.model.Guest;
+import com.hotel.model.Hotel;
+import com.hotel.model.Housekeeper;
+import com.hotel.model.Room;
+import com.hotel.search.TermPostings;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Compact binary image of a fully built Hotel, so a boot can memory-map one
+// file instead of rebuilding rooms, guests and staff one by one. Every
+// distinct string (room types, floors, shifts, ...) is stored once in a
+// string table and referenced by index, which keeps a large portfolio with
+// few room types small and means each string is decoded only once on load.
+//
+// Layout (big-endian): magic, version, string table, hotel name/address,
+// then one section each for rooms, guests, the guests' search terms, front
+// desk staff, housekeepers and chefs, each starting with its record count.
+// Storing the search terms lets a load rebuild the guest index without
+// tokenizing every guest again, which was most of the load time.
+public final class InventoryImage {
+    private static final int MAGIC = 0x48544C49; // "HTLI"
+    private static final int VERSION = 2; // 2: guest search terms stored after the guests
+    private static final int NULL_STRING = -1;
+    private static final long NULL_DATE = Long.MIN_VALUE;
+    private static final int FLAG_OCCUPIED = 1;
+    private static final int FLAG_CLEAN = 2;
+
+    private InventoryImage() {
+    }
+
+    // Writes to a temporary file first so a crash never leaves a half-written image
+    public static void write(Hotel hotel, Path path) throws IOException {
+        TermPostings guestTerms = hotel.getGuestIndex().export(hotel.getGuests());
+        Map<String, Integer> strings = collectStrings(hotel, guestTerms);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(strings.size());
+            for (String value : strings.keySet()) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            out.writeInt(ref(strings, hotel.getHotelName()));
+            out.writeInt(ref(strings, hotel.getAddress()));
+
+            out.writeInt(hotel.getRooms().size());
+            for (Room room : hotel.getRooms()) {
+                out.writeInt(ref(strings, room.getRoomNumber()));
+                out.writeInt(ref(strings, room.getRoomType()));
+                out.writeDouble(room.getPrice());
+                out.writeByte((room.isOccupied() ? FLAG_OCCUPIED : 0) | (room.isClean() ? FLAG_CLEAN : 0));
+            }
+            out.writeInt(hotel.getGuests().size());
+            for (Guest guest : hotel.getGuests()) {
+                writePerson(out, strings, guest.getName(), guest.getAge(), guest.getContactInfo());
+                out.writeInt(ref(strings, guest.getGuestId()));
+                out.writeInt(ref(strings, guest.getRoomNumber()));
+                out.writeLong(guest.getCheckInDate() == null ? NULL_DATE : guest.getCheckInDate().getTime());
+                out.writeLong(guest.getCheckOutDate() == null ? NULL_DATE : guest.getCheckOutDate().getTime());
+            }
+            out.writeInt(guestTerms.size());
+            for (int i = 0; i < guestTerms.size(); i++) {
+                out.writeInt(ref(strings, guestTerms.term(i)));
+                int[] positions = guestTerms.positions(i);
+                out.writeInt(positions.length);
+                for (int position : positions) {
+                    out.writeInt(position);
+                }
+            }
+            out.writeInt(hotel.getFrontDeskStaffs().size());
+            for (FrontDeskStaff staff : hotel.getFrontDeskStaffs()) {
+                writePerson(out, strings, staff.getName(), staff.getAge(), staff.getContactInfo());
+                out.writeInt(ref(strings, staff.getShift()));
+                String[] responsibilities = staff.getResponsibilities();
+                out.writeInt(responsibilities == null ? -1 : responsibilities.length);
+                if (responsibilities != null) {
+                    for (String responsibility : responsibilities) {
+                        out.writeInt(ref(strings, responsibility));
+                    }
+                }
+            }
+            out.writeInt(hotel.getHousekeepers().size());
+            for (Housekeeper housekeeper : hotel.getHousekeepers()) {
+                writePerson(out, strings, housekeeper.getName(), housekeeper.getAge(), housekeeper.getContactInfo());
+                out.writeInt(ref(strings, housekeeper.getAssignedFloor()));
+                out.writeInt(housekeeper.getRoomsCleaned());
+                out.writeBoolean(housekeeper.isAvailable());
+            }
+            out.writeInt(hotel.getChefs().size());
+            for (Chef chef : hotel.getChefs()) {
+                writePerson(out, strings, chef.getName(), chef.getAge(), chef.getContactInfo());
+                out.writeInt(ref(strings, chef.getSpecialty()));
+                out.writeInt(chef.getYearsOfExperience());
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Memory-maps the image and rebuilds the Hotel from it
+    public static Hotel load(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        try {
+            return read(buffer);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                 | NegativeArraySizeException e) {
+            throw new IOException("Truncated or corrupt inventory image: " + path, e);
+        }
+    }
+
+    private static Hotel read(ByteBuffer in) throws IOException {
+        if (in.getInt() != MAGIC) {
+            throw new IOException("Not a hotel inventory image");
+        }
+        int version = in.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported inventory image version " + version);
+        }
+        String[] strings = readStrings(in);
+        Hotel hotel = new Hotel(str(strings, in.getInt()), str(strings, in.getInt()));
+        hotel.addRooms(readRooms(in, strings));
+        List<Guest> guests = readGuests(in, strings);
+        hotel.addGuests(guests, readTermPostings(in, strings));
+        int staffCount = in.getInt();
+        for (int i = 0; i < staffCount; i++) {
+            String name = str(strings, in.getInt());
+            int age = in.getInt();
+            String contact = str(strings, in.getInt());
+            String shift = str(strings, in.getInt());
+            int responsibilityCount = in.getInt();
+            String[] responsibilities = responsibilityCount < 0 ? null : new String[responsibilityCount];
+            for (int j = 0; j < responsibilityCount; j++) {
+                responsibilities[j] = str(strings, in.getInt());
+            }
+            hotel.addFrontDeskStaff(new FrontDeskStaff(name, age, contact, shift, responsibilities));
+        }
+        int housekeeperCount = in.getInt();
+        for (int i = 0; i < housekeeperCount; i++) {
+            Housekeeper housekeeper = new Housekeeper(str(strings, in.getInt()), in.getInt(),
+                    str(strings, in.getInt()), str(strings, in.getInt()));
+            housekeeper.setRoomsCleaned(in.getInt());
+            housekeeper.setAvailable(in.get() != 0);
+            hotel.addHousekeeper(housekeeper);
+        }
+        int chefCount = in.getInt();
+        for (int i = 0; i < chefCount; i++) {
+            Chef chef = new Chef(str(strings, in.getInt()), in.getInt(), str(strings, in.getInt()),
+                    str(strings, in.getInt()));
+            chef.setYearsOfExperience(in.getInt());
+            hotel.addChef(chef);
+        }
+        return hotel;
+    }
+
+    // The per-record loops live in their own small methods so the JIT compiles
+    // each one on its own instead of recompiling all of read() for every loop
+    private static String[] readStrings(ByteBuffer in) {
+        String[] strings = new String[in.getInt()];
+        byte[] scratch = new byte[256];
+        for (int i = 0; i < strings.length; i++) {
+            int length = in.getInt();
+            if (length > scratch.length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            in.get(scratch, 0, length);
+            strings[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    private static List<Room> readRooms(ByteBuffer in, String[] strings) {
+        int roomCount = in.getInt();
+        List<Room> rooms = new ArrayList<>(roomCount);
+        for (int i = 0; i < roomCount; i++) {
+            Room room = new Room(str(strings, in.getInt()), str(strings, in.getInt()), in.getDouble());
+            int flags = in.get();
+            room.setOccupied((flags & FLAG_OCCUPIED) != 0);
+            room.setClean((flags & FLAG_CLEAN) != 0);
+            rooms.add(room);
+        }
+        return rooms;
+    }
+
+    private static List<Guest> readGuests(ByteBuffer in, String[] strings) {
+        int guestCount = in.getInt();
+        List<Guest> guests = new ArrayList<>(guestCount);
+        for (int i = 0; i < guestCount; i++) {
+            Guest guest = new Guest(str(strings, in.getInt()), in.getInt(), str(strings, in.getInt()),
+                    str(strings, in.getInt()));
+            guest.setRoomNumber(str(strings, in.getInt()));
+            guest.setCheckInDate(date(in.getLong()));
+            guest.setCheckOutDate(date(in.getLong()));
+            guests.add(guest);
+        }
+        return guests;
+    }
+
+    private static TermPostings readTermPostings(ByteBuffer in, String[] strings) {
+        String[] terms = new String[in.getInt()];
+        int[][] positions = new int[terms.length][];
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = str(strings, in.getInt());
+            positions[i] = new int[in.getInt()];
+            for (int j = 0; j < positions[i].length; j++) {
+                positions[i][j] = in.getInt();
+            }
+        }
+        return new TermPostings(terms, positions);
+    }
+
+    private static void writePerson(DataOutputStream out, Map<String, Integer> strings, String name, int age,
+                                    String contactInfo) throws IOException {
+        out.writeInt(ref(strings, name));
+        out.writeInt(age);
+        out.writeInt(ref(strings, contactInfo));
+    }
+
+    private static Map<String, Integer> collectStrings(Hotel hotel, TermPostings guestTerms) {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        intern(strings, hotel.getHotelName());
+        intern(strings, hotel.getAddress());
+        for (Room room : hotel.getRooms()) {
+            intern(strings, room.getRoomNumber());
+            intern(strings, room.getRoomType());
+        }
+        for (Guest guest : hotel.getGuests()) {
+            intern(strings, guest.getName());
+            intern(strings, guest.getContactInfo());
+            intern(strings, guest.getGuestId());
+            intern(strings, guest.getRoomNumber());
+        }
+        for (int i = 0; i < guestTerms.size(); i++) {
+            intern(strings, guestTerms.term(i));
+        }
+        for (FrontDeskStaff staff : hotel.getFrontDeskStaffs()) {
+            intern(strings, staff.getName());
+            intern(strings, staff.getContactInfo());
+            intern(strings, staff.getShift());
+            if (staff.getResponsibilities() != null) {
+                for (String responsibility : staff.getResponsibilities()) {
+                    intern(strings, responsibility);
+                }
+            }
+        }
+        for (Housekeeper housekeeper : hotel.getHousekeepers()) {
+            intern(strings, housekeeper.getName());
+            intern(strings, housekeeper.getContactInfo());
+            intern(strings, housekeeper.getAssignedFloor());
+        }
+        for (Chef chef : hotel.getChefs()) {
+            intern(strings, chef.getName());
+            intern(strings, chef.getContactInfo());
+            intern(strings, chef.getSpecialty());
+        }
+        return strings;
+    }
+
+    private static void intern(Map<String, Integer> strings, String value) {
+        if (value != null) {
+            strings.putIfAbsent(value, strings.size());
+        }
+    }
+
+    private static int ref(Map<String, Integer> strings, String value) {
+        return value == null ? NULL_STRING : strings.get(value);
+    }
+
+    private static String str(String[] strings, int index) {
+        return index == NULL_STRING ? null : strings[index];
+    }
+
+    private static Date date(long millis) {
+        return millis == NULL_DATE ? null : new Date(millis);
+    }
+}
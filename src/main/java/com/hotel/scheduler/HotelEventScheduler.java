@@ -0,0 +1,134 @@
+package com.hotel.scheduler;
+
+import com.hotel.model.FrontDeskStaff;
+import com.hotel.model.Guest;
+import com.hotel.model.Room;
+import com.hotel.service.HousekeepingService;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Schedules the timed hotel events (due check-outs, pre-arrival room checks and
+// cleaning deadlines) on a TimingWheel and forwards them to the front desk and
+// housekeeping when they fall due, instead of polling every guest and room.
+// At most one event of each kind is pending per guest or room; scheduling it
+// again replaces the earlier one.
+public class HotelEventScheduler {
+    public static final long ARRIVAL_READINESS_LEAD_MILLIS = 2 * 60 * 60 * 1000; // check rooms 2 hours ahead
+
+    private final TimingWheel wheel;
+    private final FrontDeskStaff frontDesk;
+    private final HousekeepingService housekeeping;
+    private final Map<String, Timeout> checkOuts = new ConcurrentHashMap<>(); // by guest id
+    private final Map<String, Timeout> arrivals = new ConcurrentHashMap<>(); // by guest id
+    private final Map<String, Timeout> cleanings = new ConcurrentHashMap<>(); // by room number
+    private ScheduledExecutorService ticker;
+
+    public HotelEventScheduler(TimingWheel wheel, FrontDeskStaff frontDesk, HousekeepingService housekeeping) {
+        this.wheel = wheel;
+        this.frontDesk = frontDesk;
+        this.housekeeping = housekeeping;
+    }
+
+    // Uses the check-out date set by FrontDeskStaff.checkIn, which calls this
+    // itself once the scheduler is set on the front desk
+    public Timeout scheduleCheckOut(Guest guest) {
+        Date checkOut = guest.getCheckOutDate();
+        if (checkOut == null) {
+            throw new IllegalStateException("Guest " + guest.getGuestId() + " has no check-out date");
+        }
+        return replace(checkOuts, guest.getGuestId(), checkOut.getTime(),
+                () -> frontDesk.handleDueCheckOut(guest));
+    }
+
+    public Timeout scheduleArrival(Guest guest, Room room, Date arrival) {
+        return replace(arrivals, guest.getGuestId(), arrival.getTime() - ARRIVAL_READINESS_LEAD_MILLIS,
+                () -> housekeeping.prepareRoomForArrival(room, guest));
+    }
+
+    public Timeout scheduleCleaningDeadline(Room room, Date deadline) {
+        return replace(cleanings, room.getRoomNumber(), deadline.getTime(),
+                () -> housekeeping.handleCleaningDeadline(room));
+    }
+
+    // Call when the guest checks out on time, so no late check-out is reported
+    public boolean cancelCheckOut(Guest guest) {
+        return cancel(checkOuts, guest.getGuestId());
+    }
+
+    public boolean cancelArrival(Guest guest) {
+        return cancel(arrivals, guest.getGuestId());
+    }
+
+    public boolean cancelCleaningDeadline(Room room) {
+        return cancel(cleanings, room.getRoomNumber());
+    }
+
+    // Runs every event due by nowMillis; returns how many fired
+    public int advanceTo(long nowMillis) {
+        return wheel.advanceTo(nowMillis);
+    }
+
+    // Drives the wheel from the wall clock on a background thread
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hotel-event-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long tick = wheel.getTickMillis();
+        // An exception escaping the task would silently cancel every later tick
+        ticker.scheduleAtFixedRate(() -> {
+            try {
+                advanceTo(System.currentTimeMillis());
+            } catch (RuntimeException e) {
+                System.out.println("Event scheduler tick failed: " + e);
+            }
+        }, tick, tick, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (ticker != null) {
+            ticker.shutdown();
+            ticker = null;
+        }
+    }
+
+    public int pendingCount() {
+        return wheel.pendingCount();
+    }
+
+    // The new timer is armed and stored inside compute, so a concurrent cancel
+    // or replace of the same key always sees the handle of the live event, and
+    // a firing timer only removes its own entry
+    private Timeout replace(Map<String, Timeout> events, String key, long deadlineMillis, Runnable action) {
+        if (key == null) {
+            throw new IllegalArgumentException("Events are keyed by guest id or room number; key must not be null");
+        }
+        return events.compute(key, (eventKey, previous) -> {
+            if (previous != null) {
+                previous.cancel();
+            }
+            Timeout[] self = new Timeout[1];
+            self[0] = wheel.schedule(deadlineMillis, () -> {
+                events.computeIfPresent(key, (firedKey, current) -> current == self[0] ? null : current);
+                action.run();
+            });
+            return self[0];
+        });
+    }
+
+    private boolean cancel(Map<String, Timeout> events, String key) {
+        if (key == null) {
+            return false;
+        }
+        Timeout timeout = events.remove(key);
+        return timeout != null && timeout.cancel();
+    }
+}
@@ -0,0 +1,49 @@
+package com.hotel.scheduler;
+
+// Handle for one timer scheduled on a TimingWheel. Timers are linked directly
+// into their wheel slot, so scheduling and cancelling never search a list.
+public final class Timeout {
+    final TimingWheel wheel;
+    final long deadlineTick;
+    final Runnable action;
+    private final long deadlineMillis;
+
+    // Intrusive links within the owning slot; slot is null once the timer left the wheel
+    Timeout prev;
+    Timeout next;
+    TimingWheel.Slot slot;
+    private boolean cancelled;
+    private boolean expired;
+
+    Timeout(TimingWheel wheel, long deadlineMillis, long deadlineTick, Runnable action) {
+        this.wheel = wheel;
+        this.deadlineMillis = deadlineMillis;
+        this.deadlineTick = deadlineTick;
+        this.action = action;
+    }
+
+    // Returns false when the timer already fired or was cancelled before
+    public boolean cancel() {
+        return wheel.cancel(this);
+    }
+
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    public synchronized boolean isExpired() {
+        return expired;
+    }
+
+    synchronized void markCancelled() {
+        cancelled = true;
+    }
+
+    synchronized void markExpired() {
+        expired = true;
+    }
+}
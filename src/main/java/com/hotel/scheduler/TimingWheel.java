@@ -0,0 +1,180 @@
+package com.hotel.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+// Hierarchical timing wheel. Time is split into ticks of tickMillis; level 0
+// has one slot per tick, and every higher level has slots SLOTS times wider.
+// A timer is placed on the lowest level whose range covers its deadline and
+// cascades down a level each time the lower wheel completes a revolution,
+// so schedule and cancel are O(1) and advancing costs O(1) per tick plus the
+// timers that actually move or fire.
+//
+// Callbacks run on the thread that calls advanceTo, outside the wheel's lock,
+// so they may schedule or cancel other timers. A callback that throws is
+// reported to the failure handler and the rest of the batch still runs.
+public class TimingWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 6; // 64^6 ticks: over two years at one-second ticks
+    private static final long MAX_DELAY_TICKS = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    private final Slot[][] levels = new Slot[LEVELS][SLOTS];
+    private long currentTick;
+    private int pending;
+    private volatile BiConsumer<Timeout, RuntimeException> failureHandler = (timeout, e) ->
+            System.out.println("Timer due at " + timeout.getDeadlineMillis() + " failed: " + e);
+
+    public TimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        for (Slot[] level : levels) {
+            for (int i = 0; i < SLOTS; i++) {
+                level[i] = new Slot();
+            }
+        }
+    }
+
+    // Schedules action to run on the first tick boundary at or after deadlineMillis,
+    // so timers may fire up to one tick late but never early; deadlines in the
+    // past fire on the next tick
+    public synchronized Timeout schedule(long deadlineMillis, Runnable action) {
+        long deadlineTick = Math.max(ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        Timeout timeout = new Timeout(this, deadlineMillis, deadlineTick, action);
+        place(timeout);
+        pending++;
+        return timeout;
+    }
+
+    synchronized boolean cancel(Timeout timeout) {
+        if (timeout.slot == null) {
+            return false;
+        }
+        timeout.slot.remove(timeout);
+        timeout.markCancelled();
+        pending--;
+        return true;
+    }
+
+    // Advances the wheel to nowMillis and runs every timer that became due;
+    // returns the number of callbacks run
+    public int advanceTo(long nowMillis) {
+        List<Timeout> due = new ArrayList<>();
+        synchronized (this) {
+            long targetTick = nowMillis / tickMillis;
+            if (pending == 0 && targetTick > currentTick) {
+                currentTick = targetTick; // nothing to cascade or fire, jump straight there
+            }
+            while (currentTick < targetTick) {
+                currentTick++;
+                cascade();
+                Slot slot = levels[0][(int) (currentTick & SLOT_MASK)];
+                for (Timeout timeout = slot.drain(); timeout != null; ) {
+                    Timeout next = timeout.next;
+                    timeout.next = null;
+                    timeout.markExpired();
+                    due.add(timeout);
+                    timeout = next;
+                }
+            }
+            pending -= due.size();
+        }
+        for (Timeout timeout : due) {
+            try {
+                timeout.action.run();
+            } catch (RuntimeException e) {
+                failureHandler.accept(timeout, e);
+            }
+        }
+        return due.size();
+    }
+
+    // Receives callbacks that threw; by default they are logged to stdout
+    public void setFailureHandler(BiConsumer<Timeout, RuntimeException> failureHandler) {
+        this.failureHandler = failureHandler;
+    }
+
+    public synchronized int pendingCount() {
+        return pending;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    // When a lower level wraps around, move the next slot of the level above down
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            long shift = (long) SLOT_BITS * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+            Slot slot = levels[level][(int) ((currentTick >>> shift) & SLOT_MASK)];
+            for (Timeout timeout = slot.drain(); timeout != null; ) {
+                Timeout next = timeout.next;
+                place(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    private void place(Timeout timeout) {
+        long delay = Math.min(timeout.deadlineTick - currentTick, MAX_DELAY_TICKS);
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        long tick = currentTick + delay;
+        levels[level][(int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK)].add(timeout);
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+
+    // Doubly-linked list of timers sharing a slot
+    static final class Slot {
+        private Timeout head;
+
+        void add(Timeout timeout) {
+            timeout.slot = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.slot = null;
+        }
+
+        // Detaches the whole list; the caller walks it through the next links
+        Timeout drain() {
+            Timeout first = head;
+            head = null;
+            for (Timeout timeout = first; timeout != null; timeout = timeout.next) {
+                timeout.slot = null;
+                timeout.prev = null;
+            }
+            return first;
+        }
+    }
+}
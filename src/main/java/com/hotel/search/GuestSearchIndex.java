@@ -0,0 +1,700 @@
+package com.hotel.search;
+
+import com.hotel.model.Guest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory search index over guest names and contact info (email / phone).
+// Each guest gets an internal document id; every normalized term points to a
+// compressed PostingList of ids. The sorted term dictionary doubles as a
+// trie: prefix queries are a range scan, and fuzzy queries walk it while
+// pruning branches that are already too many edits away.
+//
+// Updates are incremental: a changed guest is re-indexed under a fresh
+// document id and the old id is tombstoned, which keeps every posting list
+// append-only and ascending. Once a quarter of the ids are tombstones the
+// index is compacted: ids are renumbered densely and dead postings dropped.
+// Reads share a read lock, so concurrent searches do not block each other.
+//
+// Queries merge posting lists lazily in id order and stop as soon as limit
+// live guests are found, so common names cost no more than rare ones.
+public class GuestSearchIndex {
+    public static final int DEFAULT_LIMIT = 20;
+
+    private static final int MAX_EDITS = 2;
+    private static final int ESTIMATE_TERM_LIMIT = 1024;
+    // A prefix or fuzzy word expands to at most this many terms; a word that
+    // would expand further is checked against each candidate guest instead
+    private static final int MAX_EXPANSIONS = 64;
+    private static final int COMPACT_MIN_TOMBSTONES = 1024;
+    // Longer digit runs are phone numbers rather than words
+    private static final int MAX_WORD_DIGITS = 4;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private List<Guest> docs = new ArrayList<>(); // doc id -> guest, null once superseded
+    private final Map<Guest, Integer> docIds = new IdentityHashMap<>();
+    private final TreeMap<String, PostingList> terms = new TreeMap<>();        // name and address words
+    private final TreeMap<String, PostingList> contactTerms = new TreeMap<>(); // whole emails, phone numbers
+    private int tombstones;
+    private final List<String> termScratch = new ArrayList<>();
+
+    // Indexes a new guest, or re-indexes one that is already present
+    public void add(Guest guest) {
+        lock.writeLock().lock();
+        try {
+            addLocked(guest);
+            maybeCompact();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Bulk load: one lock acquisition and at most one compaction for the batch
+    public void addAll(Collection<Guest> guests) {
+        lock.writeLock().lock();
+        try {
+            for (Guest guest : guests) {
+                addLocked(guest);
+            }
+            maybeCompact();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Bulk load of guests whose terms were extracted earlier, e.g. by export
+    // before an inventory image was written; skips tokenizing them again
+    public void addAll(List<Guest> guests, TermPostings postings) {
+        lock.writeLock().lock();
+        try {
+            int firstId = docs.size();
+            for (Guest guest : guests) {
+                newDocId(guest);
+            }
+            for (int i = 0; i < postings.size(); i++) {
+                String term = postings.term(i);
+                PostingList list = dictionaryFor(term).computeIfAbsent(term, t -> new PostingList());
+                for (int position : postings.positions(i)) {
+                    if (position < 0 || position >= guests.size()) {
+                        throw new IllegalArgumentException("Posting position " + position + " out of range for "
+                                + guests.size() + " guests");
+                    }
+                    list.add(firstId + position);
+                }
+            }
+            maybeCompact();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Terms of the indexed guests among order, with their positions in order
+    public TermPostings export(List<Guest> order) {
+        lock.readLock().lock();
+        try {
+            int[] positionOf = new int[docs.size()];
+            Arrays.fill(positionOf, -1);
+            for (int i = 0; i < order.size(); i++) {
+                Integer docId = docIds.get(order.get(i));
+                if (docId != null) {
+                    positionOf[docId] = i;
+                }
+            }
+            List<String> exportedTerms = new ArrayList<>();
+            List<int[]> exportedPositions = new ArrayList<>();
+            for (TreeMap<String, PostingList> dictionary : List.of(terms, contactTerms)) {
+                for (Map.Entry<String, PostingList> entry : dictionary.entrySet()) {
+                    int[] positions = new int[entry.getValue().size()];
+                    int count = 0;
+                    PostingList.Cursor cursor = entry.getValue().cursor();
+                    for (int id = cursor.next(); id != PostingList.NO_MORE; id = cursor.next()) {
+                        if (positionOf[id] >= 0) {
+                            positions[count++] = positionOf[id];
+                        }
+                    }
+                    if (count > 0) {
+                        positions = Arrays.copyOf(positions, count);
+                        Arrays.sort(positions);
+                        exportedTerms.add(entry.getKey());
+                        exportedPositions.add(positions);
+                    }
+                }
+            }
+            return new TermPostings(exportedTerms.toArray(new String[0]), exportedPositions.toArray(new int[0][]));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addLocked(Guest guest) {
+        int docId = newDocId(guest);
+        // Only called under the write lock, so one scratch list serves every
+        // add; a term repeated within the guest is dropped by PostingList.add
+        termScratch.clear();
+        addTerms(guest.getName(), termScratch);
+        addTerms(guest.getContactInfo(), termScratch);
+        for (String term : termScratch) {
+            dictionaryFor(term).computeIfAbsent(term, t -> new PostingList()).add(docId);
+        }
+    }
+
+    // Gives the guest the next id, tombstoning the id it had before
+    private int newDocId(Guest guest) {
+        Integer oldId = docIds.get(guest);
+        if (oldId != null) {
+            docs.set(oldId, null);
+            tombstones++;
+        }
+        int docId = docs.size();
+        docs.add(guest);
+        docIds.put(guest, docId);
+        return docId;
+    }
+
+    // Called when a guest's name or contact info changes
+    public void update(Guest guest) {
+        add(guest);
+    }
+
+    public void remove(Guest guest) {
+        lock.writeLock().lock();
+        try {
+            Integer oldId = docIds.remove(guest);
+            if (oldId != null) {
+                docs.set(oldId, null);
+                tombstones++;
+                maybeCompact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Renumbers live guests densely and drops postings of superseded ids.
+    // Runs automatically as edits accumulate; can also be called after a bulk edit.
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            compactLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Superseded document ids still held in posting lists
+    public int tombstoneCount() {
+        lock.readLock().lock();
+        try {
+            return tombstones;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void maybeCompact() {
+        if (tombstones >= COMPACT_MIN_TOMBSTONES && tombstones * 4L >= docs.size()) {
+            compactLocked();
+        }
+    }
+
+    private void compactLocked() {
+        if (tombstones == 0) {
+            return;
+        }
+        int[] remap = new int[docs.size()];
+        List<Guest> live = new ArrayList<>(docIds.size());
+        for (int id = 0; id < remap.length; id++) {
+            Guest guest = docs.get(id);
+            if (guest == null) {
+                remap[id] = -1;
+            } else {
+                remap[id] = live.size();
+                docIds.put(guest, live.size());
+                live.add(guest);
+            }
+        }
+        remapAll(terms, remap);
+        remapAll(contactTerms, remap);
+        docs = live;
+        tombstones = 0;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void remapAll(TreeMap<String, PostingList> dictionary, int[] remap) {
+        Iterator<Map.Entry<String, PostingList>> it = dictionary.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, PostingList> entry = it.next();
+            PostingList compacted = entry.getValue().remap(remap);
+            if (compacted.size() == 0) {
+                it.remove();
+            } else {
+                entry.setValue(compacted);
+            }
+        }
+    }
+
+    // Guests having a name or contact term that starts with prefix. Expands
+    // to at most max(limit, MAX_EXPANSIONS) terms first, which yields limit
+    // guests unless many are superseded; only then walks the whole range.
+    public List<Guest> searchPrefix(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            int maxTerms = Math.max(limit, MAX_EXPANSIONS);
+            while (true) {
+                Set<PostingList> matches = new LinkedHashSet<>();
+                boolean complete = true;
+                for (String term : queryTerms(prefix)) {
+                    complete &= prefixMatches(term, maxTerms, matches);
+                }
+                List<Guest> result = collect(new PostingUnion(matches), limit);
+                if (complete || result.size() >= limit) {
+                    return result;
+                }
+                maxTerms = Integer.MAX_VALUE;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Guests having a term within maxEdits (1 or 2) of term
+    public List<Guest> searchFuzzy(String term, int maxEdits, int limit) {
+        if (maxEdits < 0 || maxEdits > MAX_EDITS) {
+            throw new IllegalArgumentException("maxEdits must be between 0 and " + MAX_EDITS);
+        }
+        lock.readLock().lock();
+        try {
+            int maxTerms = Math.max(limit, MAX_EXPANSIONS); // as in searchPrefix
+            while (true) {
+                Set<PostingList> matches = new LinkedHashSet<>();
+                boolean complete = true;
+                for (String queryTerm : queryTerms(term)) {
+                    complete &= fuzzyMatches(queryTerm, maxEdits, maxTerms, matches);
+                }
+                List<Guest> result = collect(new PostingUnion(matches), limit);
+                if (complete || result.size() >= limit) {
+                    return result;
+                }
+                maxTerms = Integer.MAX_VALUE;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Every word of the query must match, either as a prefix or within an
+    // edit distance that grows with the word length (e.g. "lin 0912" or "chen exmaple").
+    // The most selective word whose expansion is complete drives a lazy merge
+    // of its posting lists; the other words' unions are leapfrogged to the
+    // same id through skip entries, and words expanding to too many terms are
+    // checked against each candidate guest. Stops as soon as limit guests are
+    // found. When every word is capped, the first one drives over its capped
+    // terms, and over its whole range if that finds fewer than limit guests.
+    public List<Guest> search(String query, int limit) {
+        lock.readLock().lock();
+        try {
+            List<String> words = new ArrayList<>(queryTerms(query));
+            List<Guest> result = new ArrayList<>();
+            if (words.isEmpty() || limit <= 0) {
+                return result;
+            }
+            Map<String, Long> estimates = new HashMap<>();
+            for (String word : words) {
+                estimates.put(word, estimate(word));
+            }
+            words.sort((a, b) -> Long.compare(estimates.get(a), estimates.get(b)));
+
+            List<Set<PostingList>> matches = new ArrayList<>();
+            List<Boolean> complete = new ArrayList<>();
+            int driver = -1;
+            for (String word : words) {
+                Set<PostingList> wordMatches = new LinkedHashSet<>();
+                complete.add(wordMatches(word, MAX_EXPANSIONS, wordMatches));
+                matches.add(wordMatches);
+                if (driver < 0 && complete.get(complete.size() - 1)) {
+                    driver = matches.size() - 1;
+                }
+            }
+            boolean capped = driver < 0;
+            driver = Math.max(driver, 0);
+            List<String> toVerify = new ArrayList<>();
+            for (int i = 0; i < words.size(); i++) {
+                if (i != driver && !complete.get(i)) {
+                    toVerify.add(words.get(i));
+                }
+            }
+            collectMatching(matches.get(driver), driver, matches, complete, toVerify, limit, result);
+            if (capped && result.size() < limit) {
+                // The capped terms may have missed guests; drive over all of them
+                Set<PostingList> all = new LinkedHashSet<>();
+                wordMatches(words.get(driver), Integer.MAX_VALUE, all);
+                result.clear();
+                collectMatching(all, driver, matches, complete, toVerify, limit, result);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Adds to result, in id order, the guests among driverMatches that every
+    // other complete word's matches contain and that match each word in toVerify
+    private void collectMatching(Set<PostingList> driverMatches, int driverWord, List<Set<PostingList>> matches,
+                                 List<Boolean> complete, List<String> toVerify, int limit, List<Guest> result) {
+        PostingUnion driver = new PostingUnion(driverMatches);
+        List<PostingUnion> filters = new ArrayList<>();
+        for (int i = 0; i < matches.size(); i++) {
+            if (i != driverWord && complete.get(i)) {
+                filters.add(new PostingUnion(matches.get(i)));
+            }
+        }
+        int doc = driver.next();
+        candidates:
+        while (doc != PostingUnion.NO_MORE && result.size() < limit) {
+            for (PostingUnion filter : filters) {
+                int found = filter.advance(doc);
+                if (found != doc) {
+                    doc = driver.advance(found);
+                    continue candidates;
+                }
+            }
+            Guest guest = docs.get(doc);
+            if (guest != null && (toVerify.isEmpty() || matchesAll(guest, toVerify))) {
+                result.add(guest);
+            }
+            doc = driver.next();
+        }
+    }
+
+    public List<Guest> search(String query) {
+        return search(query, DEFAULT_LIMIT);
+    }
+
+    // Emails and phone numbers live in their own dictionary so that their many
+    // distinct values don't swamp prefix and fuzzy expansion of name words
+    private TreeMap<String, PostingList> dictionaryFor(String term) {
+        return isContactTerm(term) ? contactTerms : terms;
+    }
+
+    private Collection<PostingList> prefixRange(String prefix) {
+        return dictionaryFor(prefix).subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+    }
+
+    // Adds the posting lists of up to maxTerms terms starting with prefix;
+    // returns false when some were left out
+    private boolean prefixMatches(String prefix, int maxTerms, Set<PostingList> out) {
+        int added = 0;
+        for (PostingList postings : prefixRange(prefix)) {
+            if (++added > maxTerms) {
+                return false;
+            }
+            out.add(postings);
+        }
+        return true;
+    }
+
+    // Adds the posting lists of up to maxTerms terms within maxEdits of term;
+    // returns false when some were left out
+    private boolean fuzzyMatches(String term, int maxEdits, int maxTerms, Set<PostingList> out) {
+        TreeMap<String, PostingList> dictionary = dictionaryFor(term);
+        if (maxEdits == 0) {
+            PostingList exact = dictionary.get(term);
+            if (exact != null) {
+                out.add(exact);
+            }
+            return true;
+        }
+        Set<PostingList> matches = new LinkedHashSet<>();
+        int[] firstRow = new int[term.length() + 1];
+        for (int j = 0; j <= term.length(); j++) {
+            firstRow[j] = j;
+        }
+        fuzzyWalk(dictionary, term, maxEdits, "", null, firstRow, matches);
+        int added = 0;
+        for (PostingList postings : matches) {
+            if (++added > maxTerms) {
+                return false;
+            }
+            out.add(postings);
+        }
+        return true;
+    }
+
+    // Walks the sorted term dictionary as if it were a trie: every distinct next
+    // character under prefix is found with one ceiling seek, and a branch is
+    // abandoned as soon as no extension of it can be within maxEdits of term.
+    // row holds the edit distances between prefix and each prefix of term.
+    private void fuzzyWalk(TreeMap<String, PostingList> dictionary, String term, int maxEdits, String prefix,
+                           int[] parentRow, int[] row, Set<PostingList> matches) {
+        if (row[term.length()] <= maxEdits) {
+            PostingList exact = dictionary.get(prefix);
+            if (exact != null) {
+                matches.add(exact);
+            }
+        }
+        if (min(row) < maxEdits) {
+            // Any next character can still lead to a match
+            String cursor = prefix + '\0';
+            while (true) {
+                String key = dictionary.ceilingKey(cursor);
+                if (key == null || !key.startsWith(prefix)) {
+                    return;
+                }
+                char c = key.charAt(prefix.length());
+                int[] childRow = nextRow(term, prefix, c, parentRow, row);
+                if (min(childRow) <= maxEdits) {
+                    fuzzyWalk(dictionary, term, maxEdits, prefix + c, row, childRow, matches);
+                }
+                if (c == Character.MAX_VALUE) {
+                    return;
+                }
+                cursor = prefix + (char) (c + 1);
+            }
+        }
+        // The edit budget is used up, so the only matches left below prefix are
+        // prefix followed by an untouched suffix of term, or by one
+        // transposition across the boundary and then an untouched suffix.
+        // Looking those up directly beats seeking character by character.
+        char last = prefix.charAt(prefix.length() - 1);
+        for (int j = 0; j < term.length(); j++) {
+            if (row[j] <= maxEdits) {
+                addWithin(dictionary, term, maxEdits, prefix + term.substring(j), matches);
+            }
+            if (parentRow != null && j >= 1 && j + 1 <= term.length() && parentRow[j - 1] + 1 <= maxEdits
+                    && term.charAt(j) == last) {
+                addWithin(dictionary, term, maxEdits, prefix + term.charAt(j - 1) + term.substring(j + 1), matches);
+            }
+        }
+    }
+
+    private static void addWithin(TreeMap<String, PostingList> dictionary, String term, int maxEdits,
+                                  String candidate, Set<PostingList> matches) {
+        PostingList postings = dictionary.get(candidate);
+        if (postings != null && isWithin(term, candidate, maxEdits)) {
+            matches.add(postings);
+        }
+    }
+
+    // One step of the edit-distance table, counting adjacent transpositions
+    // ("exmaple" -> "example") as a single edit
+    private static int[] nextRow(String term, String prefix, char c, int[] parentRow, int[] row) {
+        int[] next = new int[row.length];
+        next[0] = row[0] + 1;
+        for (int j = 1; j < row.length; j++) {
+            int cost = term.charAt(j - 1) == c ? 0 : 1;
+            next[j] = Math.min(Math.min(next[j - 1] + 1, row[j] + 1), row[j - 1] + cost);
+            if (parentRow != null && j > 1 && term.charAt(j - 2) == c
+                    && term.charAt(j - 1) == prefix.charAt(prefix.length() - 1)) {
+                next[j] = Math.min(next[j], parentRow[j - 2] + 1);
+            }
+        }
+        return next;
+    }
+
+    private static int min(int[] values) {
+        int min = Integer.MAX_VALUE;
+        for (int value : values) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    // Prefix and fuzzy matches of one query word; false when capped
+    private boolean wordMatches(String word, int maxTerms, Set<PostingList> out) {
+        boolean complete = prefixMatches(word, maxTerms, out);
+        return fuzzyMatches(word, editsFor(word), maxTerms, out) && complete;
+    }
+
+    // Number of guests whose terms start with word, or Long.MAX_VALUE when the
+    // prefix covers too many terms to be worth counting
+    private long estimate(String word) {
+        long total = 0;
+        int seen = 0;
+        for (PostingList postings : prefixRange(word)) {
+            if (++seen > ESTIMATE_TERM_LIMIT) {
+                return Long.MAX_VALUE;
+            }
+            total += postings.size();
+        }
+        return total;
+    }
+
+    private static boolean matchesAll(Guest guest, List<String> words) {
+        Set<String> guestTerms = guestTerms(guest);
+        for (String word : words) {
+            boolean found = false;
+            for (String term : guestTerms) {
+                if (isContactTerm(term) != isContactTerm(word)) {
+                    continue; // same rule as the dictionaries the postings come from
+                }
+                if (term.startsWith(word) || isWithin(word, term, editsFor(word))) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWithin(String word, String term, int maxEdits) {
+        return Math.abs(term.length() - word.length()) <= maxEdits
+                && editDistance(word, term, maxEdits) <= maxEdits;
+    }
+
+    // Whole email addresses are matched by prefix only, since their parts are
+    // separate terms that still get fuzzy matching; phone numbers allow one wrong digit
+    private static int editsFor(String term) {
+        if (term.length() < 4 || term.indexOf('@') >= 0) {
+            return 0;
+        }
+        if (term.length() < 8 || isDigits(term)) {
+            return 1;
+        }
+        return 2;
+    }
+
+    private static boolean isContactTerm(String term) {
+        return term.indexOf('@') >= 0 || (term.length() > MAX_WORD_DIGITS && isDigits(term));
+    }
+
+    private static boolean isDigits(String term) {
+        for (int i = 0; i < term.length(); i++) {
+            if (term.charAt(i) < '0' || term.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Edit distance counting insertions, deletions, substitutions and adjacent
+    // transpositions ("exmaple" -> "example") as one edit each, giving up early
+    // once it must exceed max
+    private static int editDistance(String a, String b, int max) {
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] swap = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    // First limit live guests in id order, skipping superseded ids
+    private List<Guest> collect(PostingUnion ids, int limit) {
+        List<Guest> result = new ArrayList<>();
+        for (int id = ids.next(); id != PostingUnion.NO_MORE && result.size() < limit; id = ids.next()) {
+            Guest guest = docs.get(id);
+            if (guest != null) {
+                result.add(guest);
+            }
+        }
+        return result;
+    }
+
+    private static Set<String> guestTerms(Guest guest) {
+        Set<String> out = new LinkedHashSet<>();
+        addTerms(guest.getName(), out);
+        addTerms(guest.getContactInfo(), out);
+        return out;
+    }
+
+    private static Set<String> queryTerms(String query) {
+        Set<String> out = new LinkedHashSet<>();
+        addTerms(query, out);
+        return out;
+    }
+
+    // Same normalization for indexing and querying: lower-cased runs of letters
+    // and runs of digits ("hsieh123" gives "hsieh" and "123"), the whole email
+    // address, and the digits of a phone number without separators.
+    // Hand-rolled rather than regex based, since it also runs while verifying candidates.
+    private static void addTerms(String text, Collection<String> out) {
+        if (text == null) {
+            return;
+        }
+        String lower = text.trim().toLowerCase(Locale.ROOT);
+        int runStart = -1;
+        boolean digitRun = false;
+        boolean hasWhitespace = false;
+        int digitCount = 0;
+        for (int i = 0; i <= lower.length(); i++) {
+            char c = i < lower.length() ? lower.charAt(i) : ' ';
+            boolean digit = Character.isDigit(c);
+            boolean letter = !digit && Character.isLetter(c);
+            if (runStart >= 0 && !(digitRun ? digit : letter)) {
+                out.add(lower.substring(runStart, i));
+                runStart = -1;
+            }
+            if (runStart < 0 && (digit || letter)) {
+                runStart = i;
+                digitRun = digit;
+            }
+            if (i < lower.length()) {
+                hasWhitespace |= Character.isWhitespace(c);
+                if (c >= '0' && c <= '9') {
+                    digitCount++;
+                }
+            }
+        }
+        // The joined forms are only built when needed; indexing runs this for every guest
+        if (lower.indexOf('@') > 0) {
+            out.add(hasWhitespace ? keep(lower, false) : lower);
+        }
+        if (digitCount > MAX_WORD_DIGITS) {
+            out.add(keep(lower, true));
+        }
+    }
+
+    // The text without whitespace, or only its ASCII digits
+    private static String keep(String text, boolean digitsOnly) {
+        StringBuilder kept = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (digitsOnly ? c >= '0' && c <= '9' : !Character.isWhitespace(c)) {
+                kept.append(c);
+            }
+        }
+        return kept.toString();
+    }
+}
@@ -0,0 +1,131 @@
+package com.hotel.search;
+
+import java.util.Arrays;
+
+// Append-only list of ascending document ids, stored as variable-length
+// encoded deltas. Most gaps fit in one or two bytes, so a posting costs far
+// less than a boxed Integer or even a plain int. Every SKIP_INTERVAL postings
+// a skip entry records where decoding can resume, so a Cursor can jump ahead
+// without decoding everything in between.
+final class PostingList {
+    static final int NO_MORE = Integer.MAX_VALUE;
+    private static final int SKIP_INTERVAL = 128;
+    private static final int[] NO_SKIPS = new int[0]; // shared by the many short lists that never skip
+
+    private byte[] data = new byte[4];
+    private int length;
+    private int count;
+    private int lastId = -1;
+    private int[] skipBaseIds = NO_SKIPS;  // id decoded just before the skip point
+    private int[] skipOffsets = NO_SKIPS;  // byte offset of the next posting
+    private int skipCount;
+
+    // Ids must be added in ascending order; re-adding the last id is ignored
+    void add(int id) {
+        if (id == lastId) {
+            return;
+        }
+        if (id < lastId) {
+            throw new IllegalArgumentException("Posting ids must be ascending: " + id + " after " + lastId);
+        }
+        if (count > 0 && count % SKIP_INTERVAL == 0) {
+            if (skipCount == skipBaseIds.length) {
+                skipBaseIds = Arrays.copyOf(skipBaseIds, Math.max(4, skipCount * 2));
+                skipOffsets = Arrays.copyOf(skipOffsets, skipBaseIds.length);
+            }
+            skipBaseIds[skipCount] = lastId;
+            skipOffsets[skipCount++] = length;
+        }
+        int delta = id - lastId;
+        if (length + 5 > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+        }
+        while ((delta & ~0x7F) != 0) {
+            data[length++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        data[length++] = (byte) delta;
+        lastId = id;
+        count++;
+    }
+
+    int size() {
+        return count;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    // Copy keeping only ids that map to a non-negative id; remap must be
+    // ascending over the ids it keeps
+    PostingList remap(int[] remap) {
+        PostingList out = new PostingList();
+        Cursor cursor = cursor();
+        for (int id = cursor.next(); id != NO_MORE; id = cursor.next()) {
+            if (remap[id] >= 0) {
+                out.add(remap[id]);
+            }
+        }
+        out.data = Arrays.copyOf(out.data, out.length);
+        return out;
+    }
+
+    // Forward-only reader; positioned before the first id until next or advance is called
+    final class Cursor {
+        private int pos;
+        private int id = -1;
+
+        int id() {
+            return id;
+        }
+
+        int next() {
+            if (pos >= length) {
+                return id = NO_MORE;
+            }
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return id += delta;
+        }
+
+        // Moves to the first id at or after target and returns it
+        int advance(int target) {
+            if (id >= target) {
+                return id;
+            }
+            int skip = lastSkipBefore(target);
+            if (skip >= 0 && skipOffsets[skip] > pos) {
+                pos = skipOffsets[skip];
+                id = skipBaseIds[skip];
+            }
+            while (id < target) {
+                next();
+            }
+            return id;
+        }
+
+        // Last skip entry whose base id is below target, or -1
+        private int lastSkipBefore(int target) {
+            int low = 0;
+            int high = skipCount - 1;
+            int found = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (skipBaseIds[mid] < target) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return found;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.hotel.search;
+
+import java.util.Collection;
+
+// Ascending, de-duplicated iteration over the union of several posting
+// lists: a k-way merge keeping the cursors in a min-heap by current id.
+// Nothing is decoded beyond what the caller consumes, so a query that stops
+// after a few matches costs the same however long the lists are.
+final class PostingUnion {
+    static final int NO_MORE = PostingList.NO_MORE;
+
+    private final PostingList.Cursor[] heap;
+    private int size;
+    private int current = -1;
+
+    PostingUnion(Collection<PostingList> postings) {
+        heap = new PostingList.Cursor[postings.size()];
+        for (PostingList list : postings) {
+            PostingList.Cursor cursor = list.cursor();
+            if (cursor.next() != NO_MORE) {
+                heap[size++] = cursor;
+            }
+        }
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    int next() {
+        return current == NO_MORE ? NO_MORE : advance(current + 1);
+    }
+
+    // Smallest id in any of the lists that is at or after target
+    int advance(int target) {
+        while (size > 0 && heap[0].id() < target) {
+            if (heap[0].advance(target) == NO_MORE) {
+                heap[0] = heap[--size];
+                heap[size] = null;
+            }
+            siftDown(0);
+        }
+        current = size == 0 ? NO_MORE : heap[0].id();
+        return current;
+    }
+
+    private void siftDown(int i) {
+        PostingList.Cursor moving = heap[i];
+        if (moving == null) {
+            return;
+        }
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1].id() < heap[child].id()) {
+                child++;
+            }
+            if (heap[child].id() >= moving.id()) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = moving;
+    }
+}
@@ -0,0 +1,30 @@
+package com.hotel.search;
+
+// Terms of a list of guests, each with the ascending positions (in that list)
+// of the guests it occurs in. Produced by GuestSearchIndex.export so the index
+// can be stored next to the guests and restored without re-tokenizing them.
+public final class TermPostings {
+    private final String[] terms;
+    private final int[][] positions;
+
+    public TermPostings(String[] terms, int[][] positions) {
+        if (terms.length != positions.length) {
+            throw new IllegalArgumentException("Got " + terms.length + " terms but " + positions.length
+                    + " posting lists");
+        }
+        this.terms = terms;
+        this.positions = positions;
+    }
+
+    public int size() {
+        return terms.length;
+    }
+
+    public String term(int index) {
+        return terms[index];
+    }
+
+    public int[] positions(int index) {
+        return positions[index];
+    }
+}
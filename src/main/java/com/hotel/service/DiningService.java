@@ -1,17 +1,32 @@
 package com.hotel.service;
 
+import com.hotel.billing.ChargeType;
+import com.hotel.billing.FolioLedger;
+import com.hotel.log.HotelLog;
+import com.hotel.model.Guest;
 import java.util.ArrayList;
 import java.util.List;
 
 // Code Smell: Long Method
 public class DiningService {
     private List<String> menuItems; // Code Smell: Data Class
+    private FolioLedger ledger; // null: meals are served unbilled
+    private HotelLog log = HotelLog.STDOUT;
 
     public DiningService() {
         this.menuItems = new ArrayList<>();
         initializeMenu(); // Code Smell: Excessive Responsibility
     }
 
+    public DiningService(FolioLedger ledger) {
+        this();
+        this.ledger = ledger;
+    }
+
+    public void setLog(HotelLog log) {
+        this.log = log;
+    }
+
     // Code Smell: Long Method
     private void initializeMenu() {
         menuItems.add("Pasta");
@@ -33,9 +48,9 @@ public class DiningService {
 
     // Code Smell: Long Method
     public void printMenu() {
-        System.out.println("Menu:");
+        log.println("Menu:");
         for (String item : menuItems) {
-            System.out.println("- " + item);
+            log.println("- " + item);
         }
     }
 
@@ -49,10 +64,18 @@ public class DiningService {
         System.out.println("Serving " + food);
     }
 
+    // Serves a meal to a guest and bills it to the guest's folio
+    public void serveFood(Guest guest, String food, long priceCents) {
+        log.println("Serving " + food);
+        if (ledger != null) {
+            ledger.post(guest, ChargeType.DINING, food, priceCents);
+        }
+    }
+
     // Code Smell: Duplicate Code
     public void serveAll() {
         for (String item : menuItems) {
-            serveFood(item);
+            log.println("Serving " + item);
         }
     }
 }
\ No newline at end of file
@@ -1,8 +1,35 @@
 package com.hotel.service;
 
+import com.hotel.billing.ChargeType;
+import com.hotel.billing.FolioLedger;
+import com.hotel.log.HotelLog;
+import com.hotel.model.Guest;
+import com.hotel.model.Room;
+
 // Unnecessary Complexity
 // This class design is overly complex, should be simplified for better readability and maintainability
 public class HousekeepingService {
+    private FolioLedger ledger;
+    private HotelLog log = HotelLog.STDOUT;
+
+    public HousekeepingService() {
+    }
+
+    public HousekeepingService(FolioLedger ledger) {
+        this.ledger = ledger;
+    }
+
+    public void setLog(HotelLog log) {
+        this.log = log;
+    }
+
+    // Extras such as laundry or turndown service, billed to the guest's folio
+    public void provideExtraService(Guest guest, String service, long priceCents) {
+        log.println("Providing " + service + " for " + guest.getName());
+        if (ledger != null) {
+            ledger.post(guest, ChargeType.SERVICE, service, priceCents);
+        }
+    }
 
     // Inconsistent Naming
     // Method name is inconsistent with its functionality, should be changed to a more descriptive name
@@ -13,7 +40,7 @@ public class HousekeepingService {
             throw new IllegalArgumentException("Invalid room number");
         }
         // Room cleaning logic
-        System.out.println("Cleaning room " + roomNumber);
+        log.println("Cleaning room " + roomNumber);
     }
 
     // Excessive Responsibility
@@ -29,7 +56,23 @@ public class HousekeepingService {
     // This class has too much functionality, should consider splitting
     public void scheduleCleaning(int roomNumber, String time) {
         // Logic here is too complex, should be split
-        System.out.println("Scheduled cleaning for room " + roomNumber + " at " + time);
+        log.println("Scheduled cleaning for room " + roomNumber + " at " + time);
+    }
+
+    // Called by the event scheduler ahead of a guest's arrival
+    public void prepareRoomForArrival(Room room, Guest guest) {
+        if (room.isClean()) {
+            log.println("Room " + room.getRoomNumber() + " is ready for " + guest.getName());
+        } else {
+            log.println("Urgent: clean room " + room.getRoomNumber() + " before " + guest.getName() + " arrives");
+        }
+    }
+
+    // Called by the event scheduler when a room's cleaning deadline passes
+    public void handleCleaningDeadline(Room room) {
+        if (!room.isClean()) {
+            log.println("Cleaning deadline missed for room " + room.getRoomNumber());
+        }
     }
 
     // Excessive Static Methods
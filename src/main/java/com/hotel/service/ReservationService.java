@@ -1,40 +1,94 @@
 package com.hotel.service;
 
+import com.hotel.log.HotelLog;
 import com.hotel.model.Guest;
 import com.hotel.model.Room;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 // ReservationService is responsible for reservation logic
+// A reservation holds its room until the guest checks in or cancels, so no
+// other guest is given it in the meantime. Rooms are free to reserve when
+// they are vacant, clean and not held, so a room vacated at check-out can
+// be let again once housekeeping has been through it.
 public class ReservationService { // 1. Excessive Responsibility
     private List<Room> availableRooms; // 2. Unnecessary Complexity
+    private final Map<String, Room> reservations = new HashMap<>(); // by guest id, guarded by this
+    private final Set<Room> heldRooms = new HashSet<>(); // guarded by this
+    private HotelLog log = HotelLog.STDOUT;
 
     public ReservationService() {
         this.availableRooms = new ArrayList<>(); // initialization
     }
 
     // set available rooms
-    public void setAvailableRooms(List<Room> rooms) {
+    public synchronized void setAvailableRooms(List<Room> rooms) {
         this.availableRooms = rooms;
     }
 
-    // handle reservation
-    public boolean reserveRoom(Guest guest, Room room) {
-        if (availableRooms.contains(room)) {
-            // assume some reservation logic here
-            System.out.println("Room reserved for " + guest.getName());
-            return true;
+    // set where reservations and cancellations are reported
+    public void setLog(HotelLog log) {
+        this.log = log;
+    }
+
+    // handle reservation; false if the room is not free or the guest already holds one
+    public synchronized boolean reserveRoom(Guest guest, Room room) {
+        if (reservations.containsKey(guestId(guest)) || !isRoomAvailable(room)) {
+            return false;
+        }
+        hold(guest, room);
+        return true;
+    }
+
+    // Reserves the first free room for the guest; null if there is none
+    public synchronized Room reserveAnyRoom(Guest guest) {
+        if (reservations.containsKey(guestId(guest))) {
+            return null;
+        }
+        for (Room room : availableRooms) {
+            if (isFree(room)) {
+                hold(guest, room);
+                return room;
+            }
         }
-        return false;
+        return null;
     }
 
-    // cancel reservation
-    public boolean cancelReservation(Guest guest, Room room) {
-        // assume some cancellation logic here
-        System.out.println("Reservation canceled for " + guest.getName());
+    // cancel reservation; room may be null to cancel whichever room the guest holds.
+    // Returns false if the guest holds no such reservation.
+    public synchronized boolean cancelReservation(Guest guest, Room room) {
+        Room held = reservations.get(guestId(guest));
+        if (held == null || (room != null && room != held)) {
+            return false;
+        }
+        release(guest, held);
+        log.println("Reservation canceled for " + guest.getName());
+        return true;
+    }
+
+    // Call once the guest has checked in to the reserved room; the room is
+    // occupied from then on, so the hold is no longer needed
+    public synchronized boolean fulfillReservation(Guest guest) {
+        Room held = reservations.get(guestId(guest));
+        if (held == null) {
+            return false;
+        }
+        release(guest, held);
         return true;
     }
 
+    public synchronized Room getReservedRoom(Guest guest) {
+        return reservations.get(guestId(guest));
+    }
+
+    public synchronized int getReservationCount() {
+        return reservations.size();
+    }
+
     // get all available rooms
     public List<Room> getAvailableRooms() {
         return availableRooms;
@@ -45,13 +99,35 @@ public class ReservationService { // 1. Excessive Responsibility
         return availableRooms.size();
     }
 
-    // check if room is available
-    public boolean isRoomAvailable(Room room) {
-        return availableRooms.contains(room);
+    // check if room is free to reserve right now
+    public synchronized boolean isRoomAvailable(Room room) {
+        return availableRooms.contains(room) && isFree(room);
     }
 
     // clear available rooms
-    public void clearAvailableRooms() {
+    public synchronized void clearAvailableRooms() {
         availableRooms.clear();
     }
-}
\ No newline at end of file
+
+    private boolean isFree(Room room) {
+        return !room.isOccupied() && room.isClean() && !heldRooms.contains(room);
+    }
+
+    private void hold(Guest guest, Room room) {
+        reservations.put(guest.getGuestId(), room);
+        heldRooms.add(room);
+        log.println("Room reserved for " + guest.getName());
+    }
+
+    private void release(Guest guest, Room room) {
+        reservations.remove(guest.getGuestId());
+        heldRooms.remove(room);
+    }
+
+    private static String guestId(Guest guest) {
+        if (guest.getGuestId() == null) {
+            throw new IllegalArgumentException("Guest id must not be null");
+        }
+        return guest.getGuestId();
+    }
+}
@@ -0,0 +1,306 @@
+package com.hotel.simulation;
+
+import com.hotel.billing.Folio;
+import com.hotel.billing.FolioLedger;
+import com.hotel.config.AppConfigHolder;
+import com.hotel.log.HotelLog;
+import com.hotel.model.FrontDeskStaff;
+import com.hotel.model.Guest;
+import com.hotel.model.Hotel;
+import com.hotel.model.Housekeeper;
+import com.hotel.model.Room;
+import com.hotel.service.DiningService;
+import com.hotel.service.HousekeepingService;
+import com.hotel.service.ReservationService;
+import com.hotel.simulation.SimulationEvent.Type;
+import com.hotel.snapshot.RoomState;
+import com.hotel.supplies.SupplyInventory;
+import com.hotel.supplies.SupplySnapshot;
+import com.hotel.supplies.SupplyType;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Replays a generated hotel day against the real Hotel, ReservationService,
+// HousekeepingService, DiningService and FolioLedger on several threads, then
+// reports throughput, latency and whether the end-of-day state adds up.
+// Arrivals check in through Hotel.checkIn, rooms come from the reservation
+// service at booking or walk-in time, and the tallies the end-of-day state is
+// checked against count only what those calls actually accepted.
+// Events are partitioned by guest (or room, for check-outs and
+// housekeeping) so each partition runs in time order on one worker. Staff and
+// services report every step, so they are given a quiet log rather than
+// having all workers print through the one System.out stream.
+//
+// Usage: HotelDaySimulation [seed=42] [rooms=2000] [arrivals=1200] [threads=4] ...
+public class HotelDaySimulation {
+    private static final long OPENING_STOCK = 1_000_000; // per floor and supply, enough for any run
+
+    private final SimulationConfig config;
+    private final Workload workload;
+    private final Hotel hotel;
+    private final Room[] rooms;
+    private final Housekeeper[] housekeepers; // one per floor
+    private final Guest[] guests;
+    private final FrontDeskStaff frontDesk;
+    private final FolioLedger ledger = new FolioLedger();
+    private final ReservationService reservationService = new ReservationService();
+    private final DiningService diningService = new DiningService(ledger);
+    private final HousekeepingService housekeepingService = new HousekeepingService(ledger);
+    private final SupplyInventory supplies = new SupplyInventory();
+    // What the hotel accepted or refused, for the end-of-day checks
+    private final AtomicInteger checkedIn = new AtomicInteger();
+    private final AtomicInteger checkedOut = new AtomicInteger();
+    private final AtomicInteger turnedAway = new AtomicInteger();
+    private final AtomicInteger cancelled = new AtomicInteger();
+    private final AtomicLong postings = new AtomicLong();
+    private final AtomicLong chargesCents = new AtomicLong();
+    private final Set<Room> vacated = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger reLet = new AtomicInteger(); // check-ins to a room vacated today
+
+    public HotelDaySimulation(SimulationConfig config) {
+        this.config = config;
+        this.workload = new WorkloadGenerator(config).generate();
+        this.hotel = new Hotel("Simulation Hotel", "Simulated");
+        hotel.setLog(HotelLog.QUIET);
+        reservationService.setLog(HotelLog.QUIET);
+        diningService.setLog(HotelLog.QUIET);
+        housekeepingService.setLog(HotelLog.QUIET);
+        this.rooms = new Room[config.getRooms()];
+        this.housekeepers = new Housekeeper[(config.getRooms() + config.getRoomsPerFloor() - 1) / config.getRoomsPerFloor()];
+        for (int floor = 0; floor < housekeepers.length; floor++) {
+            housekeepers[floor] = new Housekeeper("Housekeeper " + (floor + 1), 30, "hk" + (floor + 1) + "@example.com",
+                    "Floor " + (floor + 1));
+            housekeepers[floor].setLog(HotelLog.QUIET);
+            hotel.addHousekeeper(housekeepers[floor]);
+            housekeepers[floor].setSupplyInventory(supplies);
+            for (SupplyType type : SupplyType.values()) {
+                supplies.receive(housekeepers[floor].getAssignedFloor(), type, OPENING_STOCK);
+            }
+        }
+        for (int i = 0; i < rooms.length; i++) {
+            int floor = i / config.getRoomsPerFloor() + 1;
+            rooms[i] = new Room(String.valueOf(floor * 1000 + i % config.getRoomsPerFloor()), "Standard Double Room",
+                    AppConfigHolder.current().getRoomRate());
+            hotel.addRoom(rooms[i]);
+        }
+        this.guests = new Guest[workload.getGuestCount()];
+        for (int i = 0; i < guests.length; i++) {
+            guests[i] = new Guest("Sim Guest " + i, 20 + i % 60, "sim" + i + "@example.com", "S" + i);
+        }
+        this.frontDesk = new FrontDeskStaff("Sim Front Desk", 30, "frontdesk@example.com", "All Day",
+                new String[] {"Check-in", "Check-out"});
+        frontDesk.setLedger(ledger);
+        frontDesk.setLog(HotelLog.QUIET);
+        hotel.addFrontDeskStaff(frontDesk);
+        reservationService.setAvailableRooms(hotel.getRooms());
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        AppConfigHolder.load();
+        SimulationConfig config = SimulationConfig.fromArgs(args);
+        SimulationReport report = new HotelDaySimulation(config).run();
+        report.print(System.out);
+        if (!report.isConsistent()) {
+            System.exit(1);
+        }
+    }
+
+    public SimulationReport run() throws InterruptedException {
+        for (SimulationEvent event : workload.getSetup()) {
+            apply(event);
+        }
+        return replayDay();
+    }
+
+    private SimulationReport replayDay() throws InterruptedException {
+        int threads = config.getThreads();
+        List<List<SimulationEvent>> partitions = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (SimulationEvent event : workload.getEvents()) {
+            partitions.get(event.partitionKey() % threads).add(event);
+        }
+
+        List<Map<Type, long[]>> results = new ArrayList<>();
+        List<Thread> workers = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < threads; i++) {
+            List<SimulationEvent> partition = partitions.get(i);
+            Map<Type, long[]> latencies = new EnumMap<>(Type.class);
+            results.add(latencies);
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                    replay(partition, latencies);
+                } catch (Throwable t) {
+                    synchronized (failures) {
+                        failures.add(t);
+                    }
+                }
+            }, "simulation-worker-" + i);
+            workers.add(worker);
+            worker.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long wallNanos = System.nanoTime() - begin;
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException("Simulation worker failed", failures.get(0));
+        }
+
+        SimulationReport report = new SimulationReport(config.toString(), workload.getFingerprint(), wallNanos,
+                checkedIn.get(), turnedAway.get(), cancelled.get(), checkedOut.get(), reLet.get());
+        for (Map<Type, long[]> latencies : results) {
+            for (Map.Entry<Type, long[]> entry : latencies.entrySet()) {
+                report.addLatencies(entry.getKey(), entry.getValue());
+            }
+        }
+        checkConsistency(report);
+        return report;
+    }
+
+    private void replay(List<SimulationEvent> partition, Map<Type, long[]> latencies) {
+        Map<Type, Integer> counts = new EnumMap<>(Type.class);
+        for (SimulationEvent event : partition) {
+            counts.merge(event.getType(), 1, Integer::sum);
+        }
+        for (Map.Entry<Type, Integer> entry : counts.entrySet()) {
+            latencies.put(entry.getKey(), new long[entry.getValue()]);
+        }
+        Map<Type, Integer> recorded = new EnumMap<>(Type.class);
+        for (SimulationEvent event : partition) {
+            long begin = System.nanoTime();
+            apply(event);
+            long elapsed = System.nanoTime() - begin;
+            int index = recorded.merge(event.getType(), 1, Integer::sum) - 1;
+            latencies.get(event.getType())[index] = elapsed;
+        }
+    }
+
+    private void apply(SimulationEvent event) {
+        Guest guest = event.getGuest() < 0 ? null : guests[event.getGuest()];
+        switch (event.getType()) {
+            case BOOKING:
+                boolean booked = event.getRoom() < 0 ? reservationService.reserveAnyRoom(guest) != null
+                        : reservationService.reserveRoom(guest, rooms[event.getRoom()]);
+                if (!booked) {
+                    turnedAway.incrementAndGet(); // fully booked
+                }
+                break;
+            case RESERVATION_ARRIVAL:
+                Room reserved = reservationService.getReservedRoom(guest);
+                if (reserved != null) { // otherwise already turned away when booking
+                    checkIn(event, guest, reserved);
+                }
+                break;
+            case WALK_IN:
+                Room free = reservationService.reserveAnyRoom(guest);
+                if (free == null) {
+                    turnedAway.incrementAndGet();
+                } else {
+                    checkIn(event, guest, free);
+                }
+                break;
+            case CANCELLATION:
+                if (reservationService.cancelReservation(guest, null)) {
+                    cancelled.incrementAndGet();
+                }
+                break;
+            case ROOM_SERVICE:
+                if (hotel.isCheckedIn(guest)) {
+                    diningService.serveFood(guest, event.getItem(), event.getAmountCents());
+                    postings.incrementAndGet();
+                    chargesCents.addAndGet(event.getAmountCents());
+                }
+                break;
+            case HOUSEKEEPING:
+                Room room = rooms[event.getRoom()];
+                housekeepers[event.getRoom() / config.getRoomsPerFloor()]
+                        .cleanRoom(room.getRoomNumber(), false, true, true, true, true);
+                room.setClean(true);
+                break;
+            case CHECK_OUT:
+                Room departed = rooms[event.getRoom()];
+                if (hotel.checkOut(guest)) {
+                    checkedOut.incrementAndGet();
+                    // dirty before vacant, so the room is not let again until it is cleaned
+                    departed.setClean(false);
+                    if (hotel.getGuestCount(departed.getRoomNumber()) == 0) {
+                        vacated.add(departed);
+                        departed.setOccupied(false);
+                    }
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unhandled event " + event.getType());
+        }
+    }
+
+    // The room is held for the guest until the hotel accepts or refuses them
+    private void checkIn(SimulationEvent event, Guest guest, Room room) {
+        if (!hotel.checkIn(guest, room.getRoomNumber(), event.getNights())) {
+            reservationService.cancelReservation(guest, room);
+            turnedAway.incrementAndGet();
+            return;
+        }
+        room.setOccupied(true);
+        if (vacated.contains(room)) {
+            reLet.incrementAndGet();
+        }
+        reservationService.fulfillReservation(guest);
+        hotel.addGuest(guest);
+        checkedIn.incrementAndGet();
+        postings.incrementAndGet(); // the front desk posts the room charge
+        chargesCents.addAndGet(event.getAmountCents());
+    }
+
+    private void checkConsistency(SimulationReport report) {
+        report.check("arrivals checked in, cancelled or turned away", config.getDepartures() + workload.getArrivals(),
+                checkedIn.get() + cancelled.get() + turnedAway.get());
+        report.check("reservations still held", 0, reservationService.getReservationCount());
+        report.check("guests registered", checkedIn.get(), hotel.getGuests().size());
+        report.check("guests in latest snapshot", checkedIn.get(), hotel.snapshot().getGuests().size());
+        report.check("guests in search index", checkedIn.get(), hotel.getGuestIndex().size());
+        report.check("guests in house", checkedIn.get() - checkedOut.get(), hotel.getCheckedInGuestCount());
+        report.check("folio postings", postings.get(), ledger.postingCount());
+        report.check("charges posted (cents)", chargesCents.get(), ledger.journalTotalCents());
+        long folioTotal = 0;
+        for (Guest guest : guests) {
+            Folio folio = ledger.folioOf(guest.getGuestId());
+            folioTotal += folio == null ? 0 : folio.getBalanceCents();
+        }
+        report.check("folio balances (cents)", ledger.journalTotalCents(), folioTotal);
+        long cleaned = 0;
+        for (Housekeeper housekeeper : housekeepers) {
+            cleaned += housekeeper.getRoomsCleaned();
+        }
+        report.check("rooms cleaned", workload.getExpectedCleanings(), cleaned);
+        long clean = 0;
+        long occupied = 0;
+        for (Room room : rooms) {
+            clean += room.isClean() ? 1 : 0;
+            occupied += room.isOccupied() ? 1 : 0;
+        }
+        report.check("rooms clean at end of day", rooms.length, clean);
+        report.check("rooms occupied at end of day", hotel.getOccupiedRoomCount(), occupied);
+        report.check("rooms occupied in latest snapshot", hotel.getOccupiedRoomCount(),
+                hotel.snapshot().getRooms().stream().filter(RoomState::isOccupied).count());
+        SupplySnapshot stock = supplies.snapshot();
+        for (SupplyType type : SupplyType.values()) {
+            report.check("supplies drawn (" + type + ")", workload.getExpectedCleanings() * type.usage(true, true),
+                    OPENING_STOCK * housekeepers.length - stock.getTotal(type));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.hotel.simulation;
+
+// Scale and mix of a simulated hotel day. Every field has a default, and
+// fromArgs accepts "key=value" overrides, e.g. "seed=7 rooms=20000 threads=8".
+public class SimulationConfig {
+    private long seed = 42;
+    private int rooms = 2000;
+    private int roomsPerFloor = 100;
+    private int departures = 600; // in-house guests checking out today
+    private int arrivals = 1200; // reservations arriving today
+    private double walkInRate = 0.10; // extra arrivals without a reservation, as a share of arrivals
+    private double cancellationRate = 0.05; // share of reservations cancelled during the day
+    private double roomServiceRate = 1.5; // average room-service orders per arriving guest
+    private int threads = 4;
+
+    public static SimulationConfig fromArgs(String[] args) {
+        SimulationConfig config = new SimulationConfig();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            String key = arg.substring(0, eq);
+            String value = arg.substring(eq + 1);
+            switch (key) {
+                case "seed": config.setSeed(Long.parseLong(value)); break;
+                case "rooms": config.setRooms(Integer.parseInt(value)); break;
+                case "roomsPerFloor": config.setRoomsPerFloor(Integer.parseInt(value)); break;
+                case "departures": config.setDepartures(Integer.parseInt(value)); break;
+                case "arrivals": config.setArrivals(Integer.parseInt(value)); break;
+                case "walkInRate": config.setWalkInRate(Double.parseDouble(value)); break;
+                case "cancellationRate": config.setCancellationRate(Double.parseDouble(value)); break;
+                case "roomServiceRate": config.setRoomServiceRate(Double.parseDouble(value)); break;
+                case "threads": config.setThreads(Integer.parseInt(value)); break;
+                default: throw new IllegalArgumentException("Unknown simulation setting: " + key);
+            }
+        }
+        config.validate();
+        return config;
+    }
+
+    public void validate() {
+        if (rooms < 1 || roomsPerFloor < 1 || threads < 1) {
+            throw new IllegalArgumentException("rooms, roomsPerFloor and threads must be positive");
+        }
+        if (departures < 0 || arrivals < 0 || departures > rooms) {
+            throw new IllegalArgumentException("departures must be between 0 and rooms, arrivals non-negative");
+        }
+        if (walkInRate < 0 || cancellationRate < 0 || cancellationRate > 1 || roomServiceRate < 0) {
+            throw new IllegalArgumentException("rates must be non-negative and cancellationRate at most 1");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "seed=" + seed + " rooms=" + rooms + " roomsPerFloor=" + roomsPerFloor + " departures=" + departures
+                + " arrivals=" + arrivals + " walkInRate=" + walkInRate + " cancellationRate=" + cancellationRate
+                + " roomServiceRate=" + roomServiceRate + " threads=" + threads;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getRooms() {
+        return rooms;
+    }
+
+    public void setRooms(int rooms) {
+        this.rooms = rooms;
+    }
+
+    public int getRoomsPerFloor() {
+        return roomsPerFloor;
+    }
+
+    public void setRoomsPerFloor(int roomsPerFloor) {
+        this.roomsPerFloor = roomsPerFloor;
+    }
+
+    public int getDepartures() {
+        return departures;
+    }
+
+    public void setDepartures(int departures) {
+        this.departures = departures;
+    }
+
+    public int getArrivals() {
+        return arrivals;
+    }
+
+    public void setArrivals(int arrivals) {
+        this.arrivals = arrivals;
+    }
+
+    public double getWalkInRate() {
+        return walkInRate;
+    }
+
+    public void setWalkInRate(double walkInRate) {
+        this.walkInRate = walkInRate;
+    }
+
+    public double getCancellationRate() {
+        return cancellationRate;
+    }
+
+    public void setCancellationRate(double cancellationRate) {
+        this.cancellationRate = cancellationRate;
+    }
+
+    public double getRoomServiceRate() {
+        return roomServiceRate;
+    }
+
+    public void setRoomServiceRate(double roomServiceRate) {
+        this.roomServiceRate = roomServiceRate;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+}
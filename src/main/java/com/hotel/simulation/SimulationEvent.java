@@ -0,0 +1,79 @@
+package com.hotel.simulation;
+
+// One step of the simulated day. guest and room are indexes into the
+// simulation's guest and room tables; -1 when not applicable.
+public final class SimulationEvent {
+    public enum Type {
+        BOOKING, // made before the day; room -1 lets the hotel pick one
+        RESERVATION_ARRIVAL,
+        WALK_IN,
+        CANCELLATION,
+        ROOM_SERVICE,
+        HOUSEKEEPING,
+        CHECK_OUT
+    }
+
+    private final Type type;
+    private final int minuteOfDay;
+    private final int guest;
+    private final int room;
+    private final int nights;
+    private final String item;
+    private final long amountCents;
+
+    SimulationEvent(Type type, int minuteOfDay, int guest, int room, int nights, String item, long amountCents) {
+        this.type = type;
+        this.minuteOfDay = minuteOfDay;
+        this.guest = guest;
+        this.room = room;
+        this.nights = nights;
+        this.item = item;
+        this.amountCents = amountCents;
+    }
+
+    // Check-out and housekeeping both change a room's occupied/clean state, so
+    // they are keyed by room and a room's clean always runs after its
+    // check-out on the same worker. Everything else is keyed by guest, so a
+    // guest's arrival comes before their room-service orders. A departing
+    // guest has no other events that day. Arrivals are given rooms by the
+    // hotel at the time, which only lets vacant, clean rooms, so a room
+    // vacated and cleaned on another worker is re-let without any ordering
+    // between the workers.
+    int partitionKey() {
+        return type == Type.HOUSEKEEPING || type == Type.CHECK_OUT ? room : guest;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getMinuteOfDay() {
+        return minuteOfDay;
+    }
+
+    public int getGuest() {
+        return guest;
+    }
+
+    public int getRoom() {
+        return room;
+    }
+
+    public int getNights() {
+        return nights;
+    }
+
+    public String getItem() {
+        return item;
+    }
+
+    public long getAmountCents() {
+        return amountCents;
+    }
+
+    @Override
+    public String toString() {
+        return type + "@" + minuteOfDay + " guest=" + guest + " room=" + room + " nights=" + nights
+                + " item=" + item + " amount=" + amountCents;
+    }
+}
@@ -0,0 +1,104 @@
+package com.hotel.simulation;
+
+import com.hotel.simulation.SimulationEvent.Type;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// Throughput, per-event latency percentiles and end-of-day consistency checks
+// for one simulation run.
+public class SimulationReport {
+    private final String configDescription;
+    private final long fingerprint;
+    private final long wallNanos;
+    private final int checkedIn;
+    private final int turnedAway;
+    private final int cancelled;
+    private final int checkedOut;
+    private final int reLet;
+    private final Map<Type, long[]> latencies = new EnumMap<>(Type.class);
+    private final List<String> checks = new ArrayList<>();
+    private int failedChecks;
+
+    SimulationReport(String configDescription, long fingerprint, long wallNanos, int checkedIn, int turnedAway,
+                     int cancelled, int checkedOut, int reLet) {
+        this.configDescription = configDescription;
+        this.fingerprint = fingerprint;
+        this.wallNanos = wallNanos;
+        this.checkedIn = checkedIn;
+        this.turnedAway = turnedAway;
+        this.cancelled = cancelled;
+        this.checkedOut = checkedOut;
+        this.reLet = reLet;
+    }
+
+    void addLatencies(Type type, long[] nanos) {
+        long[] existing = latencies.get(type);
+        long[] merged = existing == null ? nanos.clone() : concat(existing, nanos);
+        Arrays.sort(merged);
+        latencies.put(type, merged);
+    }
+
+    void check(String name, long expected, long actual) {
+        boolean ok = expected == actual;
+        if (!ok) {
+            failedChecks++;
+        }
+        checks.add((ok ? "OK   " : "FAIL ") + name + ": expected " + expected + ", got " + actual);
+    }
+
+    public boolean isConsistent() {
+        return failedChecks == 0;
+    }
+
+    public long getEventCount() {
+        long count = 0;
+        for (long[] values : latencies.values()) {
+            count += values.length;
+        }
+        return count;
+    }
+
+    public double getThroughputPerSecond() {
+        return wallNanos == 0 ? 0 : getEventCount() * 1e9 / wallNanos;
+    }
+
+    public void print(PrintStream out) {
+        out.println("=== Hotel day simulation ===");
+        out.println("Config: " + configDescription);
+        out.println("Workload fingerprint: " + Long.toHexString(fingerprint));
+        out.printf("Events: %d in %.1f ms (%.0f events/s)%n", getEventCount(), wallNanos / 1e6,
+                getThroughputPerSecond());
+        out.println("Checked in: " + checkedIn + ", turned away: " + turnedAway + ", cancelled: " + cancelled
+                + ", checked out: " + checkedOut + ", rooms let again after a check-out: " + reLet);
+        out.println();
+        out.printf("%-20s %8s %10s %10s %10s%n", "Event", "Count", "p50 us", "p99 us", "max us");
+        for (Map.Entry<Type, long[]> entry : latencies.entrySet()) {
+            long[] values = entry.getValue();
+            if (values.length == 0) {
+                continue;
+            }
+            out.printf("%-20s %8d %10.1f %10.1f %10.1f%n", entry.getKey(), values.length,
+                    percentile(values, 0.50) / 1e3, percentile(values, 0.99) / 1e3, values[values.length - 1] / 1e3);
+        }
+        out.println();
+        out.println("Consistency:");
+        for (String check : checks) {
+            out.println("  " + check);
+        }
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static long[] concat(long[] a, long[] b) {
+        long[] out = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, out, a.length, b.length);
+        return out;
+    }
+}
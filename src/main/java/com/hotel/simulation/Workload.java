@@ -0,0 +1,69 @@
+package com.hotel.simulation;
+
+import java.util.List;
+
+// A generated day: the in-house guests and bookings to set up before the
+// clock starts, and the timed events of the day. Which arrivals get a room
+// is up to the hotel, so the only totals fixed in advance are the arrivals
+// and the cleanings.
+public final class Workload {
+    private final List<SimulationEvent> setup;
+    private final List<SimulationEvent> events;
+    private final int guestCount;
+    private final int arrivals;
+    private final int expectedCleanings;
+    private final long fingerprint;
+
+    Workload(List<SimulationEvent> setup, List<SimulationEvent> events, int guestCount, int arrivals,
+             int expectedCleanings) {
+        this.setup = setup;
+        this.events = events;
+        this.guestCount = guestCount;
+        this.arrivals = arrivals;
+        this.expectedCleanings = expectedCleanings;
+        this.fingerprint = fingerprint(setup, events);
+    }
+
+    // FNV-1a over every event, so two runs can be checked for an identical workload
+    private static long fingerprint(List<SimulationEvent> setup, List<SimulationEvent> events) {
+        long hash = 0xcbf29ce484222325L;
+        for (List<SimulationEvent> list : List.of(setup, events)) {
+            for (SimulationEvent event : list) {
+                long[] fields = {event.getType().ordinal(), event.getMinuteOfDay(), event.getGuest(),
+                    event.getRoom(), event.getNights(), event.getAmountCents()};
+                for (long field : fields) {
+                    hash ^= field;
+                    hash *= 0x100000001b3L;
+                }
+            }
+        }
+        return hash;
+    }
+
+    public List<SimulationEvent> getSetup() {
+        return setup;
+    }
+
+    public List<SimulationEvent> getEvents() {
+        return events;
+    }
+
+    // Number of distinct guests referenced by the events
+    public int getGuestCount() {
+        return guestCount;
+    }
+
+    // Reservations and walk-ins due today, including those that cancel; each
+    // ends the day checked in, cancelled or turned away
+    public int getArrivals() {
+        return arrivals;
+    }
+
+    public int getExpectedCleanings() {
+        return expectedCleanings;
+    }
+
+    public long getFingerprint() {
+        return fingerprint;
+    }
+}
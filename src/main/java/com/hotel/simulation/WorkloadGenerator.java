@@ -0,0 +1,152 @@
+package com.hotel.simulation;
+
+import com.hotel.config.AppConfig;
+import com.hotel.config.AppConfigHolder;
+import com.hotel.simulation.SimulationEvent.Type;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Generates a realistic, fully reproducible hotel day from a seed: morning
+// departures around the configured check-out time, an arrivals curve that
+// peaks after the configured check-in time, walk-ins, cancellations,
+// room-service bursts around dinner and late night, and housekeeping during
+// the day shift. The same config always yields the same events.
+//
+// Only the in-house departures are given rooms here. Reservations are booked
+// during setup and walk-ins ask for a room on arrival, so which guests get
+// rooms, and which are turned away, is decided by the hotel.
+public class WorkloadGenerator {
+    private static final String[] MENU = {"Pasta", "Pizza", "Salad", "Steak", "Dessert"};
+    private static final long[] MENU_PRICES_CENTS = {32000, 36000, 22000, 88000, 18000};
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int SHIFT_START = 9 * 60;
+    private static final int SHIFT_END = 17 * 60;
+    private static final double STAYOVER_SERVICE_RATE = 0.3; // occupied rooms serviced without a departure
+
+    private final SimulationConfig config;
+    private final AppConfig appConfig;
+    private final SplittableRandom random;
+    private final List<SimulationEvent> setup = new ArrayList<>();
+    private final List<SimulationEvent> events = new ArrayList<>();
+    private int nextGuest;
+    private int arrivals;
+    private int cleanings;
+
+    public WorkloadGenerator(SimulationConfig config) {
+        this.config = config;
+        this.appConfig = AppConfigHolder.current();
+        this.random = new SplittableRandom(config.getSeed());
+    }
+
+    public Workload generate() {
+        generateDepartures();
+        for (int i = 0; i < config.getArrivals(); i++) {
+            generateArrival(Type.RESERVATION_ARRIVAL);
+        }
+        int walkIns = (int) Math.round(config.getArrivals() * config.getWalkInRate());
+        for (int i = 0; i < walkIns; i++) {
+            generateArrival(Type.WALK_IN);
+        }
+        generateStayoverService();
+        events.sort(Comparator.comparingInt(SimulationEvent::getMinuteOfDay)); // stable, so still deterministic
+        return new Workload(setup, events, nextGuest, arrivals, cleanings);
+    }
+
+    private void generateDepartures() {
+        for (int i = 0; i < config.getDepartures(); i++) {
+            int guest = nextGuest++;
+            int room = i;
+            setup.add(new SimulationEvent(Type.BOOKING, 0, guest, room, 0, null, 0));
+            setup.add(checkIn(Type.RESERVATION_ARRIVAL, 0, guest, 1 + random.nextInt(4)));
+            int checkOutMinute = clamp(appConfig.getCheckOutMinuteOfDay() + spread(90), 6 * 60, 14 * 60);
+            events.add(new SimulationEvent(Type.CHECK_OUT, checkOutMinute, guest, room, 0, null, 0));
+            int cleaningMinute = Math.max(SHIFT_START, checkOutMinute + 30 + random.nextInt(120));
+            addCleaning(room, Math.min(cleaningMinute, MINUTES_PER_DAY - 1));
+        }
+    }
+
+    private void generateArrival(Type type) {
+        int guest = nextGuest++;
+        arrivals++;
+        int minute = type == Type.WALK_IN ? 10 * 60 + random.nextInt(MINUTES_PER_DAY - 10 * 60) : arrivalMinute();
+        if (type == Type.RESERVATION_ARRIVAL) {
+            setup.add(new SimulationEvent(Type.BOOKING, 0, guest, -1, 0, null, 0));
+            if (random.nextDouble() < config.getCancellationRate()) {
+                events.add(new SimulationEvent(Type.CANCELLATION, random.nextInt(minute + 1), guest, -1, 0, null, 0));
+                return;
+            }
+        }
+        events.add(checkIn(type, minute, guest, 1 + random.nextInt(5)));
+        generateRoomService(guest, minute);
+    }
+
+    // The room is whichever one the hotel gives the guest; the amount is the
+    // room charge posted if the check-in succeeds
+    private SimulationEvent checkIn(Type type, int minute, int guest, int nights) {
+        return new SimulationEvent(type, minute, guest, -1, nights, null, appConfig.getRoomRateCents() * nights);
+    }
+
+    // Orders cluster around dinner and late night, always after the guest
+    // arrived; orders from a guest the hotel turned away are not served
+    private void generateRoomService(int guest, int arrivalMinute) {
+        double rate = config.getRoomServiceRate();
+        int orders = (int) rate + (random.nextDouble() < rate - (int) rate ? 1 : 0);
+        for (int i = 0; i < orders; i++) {
+            int minute = random.nextDouble() < 0.7 ? 18 * 60 + random.nextInt(180) : 21 * 60 + random.nextInt(180);
+            if (minute <= arrivalMinute) {
+                minute = arrivalMinute + 15 + random.nextInt(120);
+            }
+            if (minute >= MINUTES_PER_DAY) {
+                continue;
+            }
+            int item = random.nextInt(MENU.length);
+            events.add(new SimulationEvent(Type.ROOM_SERVICE, minute, guest, -1, 0, MENU[item],
+                    MENU_PRICES_CENTS[item]));
+        }
+    }
+
+    // Rooms with no departure still get a service clean, whether or not they are let
+    private void generateStayoverService() {
+        for (int room = config.getDepartures(); room < config.getRooms(); room++) {
+            if (random.nextDouble() < STAYOVER_SERVICE_RATE) {
+                addCleaning(room, SHIFT_START + random.nextInt(SHIFT_END - SHIFT_START));
+            }
+        }
+    }
+
+    private void addCleaning(int room, int minute) {
+        events.add(new SimulationEvent(Type.HOUSEKEEPING, minute, -1, room, 0, null, 0));
+        cleanings++;
+    }
+
+    // Weighted by hour: quiet overnight, busy from the check-in time into the evening
+    private int arrivalMinute() {
+        int checkInHour = appConfig.getCheckInMinuteOfDay() / 60;
+        int[] weights = new int[24];
+        int total = 0;
+        for (int hour = 0; hour < 24; hour++) {
+            int weight = hour < 7 ? 1 : hour < checkInHour - 3 ? 2 : hour < checkInHour ? 4
+                    : hour < checkInHour + 4 ? 10 : hour < 22 ? 5 : 2;
+            weights[hour] = weight;
+            total += weight;
+        }
+        int pick = random.nextInt(total);
+        int hour = 0;
+        while (pick >= weights[hour]) {
+            pick -= weights[hour];
+            hour++;
+        }
+        return hour * 60 + random.nextInt(60);
+    }
+
+    // Roughly bell-shaped offset in minutes, within +/- width
+    private int spread(int width) {
+        return (int) ((random.nextDouble() + random.nextDouble() + random.nextDouble() - 1.5) * width / 1.5);
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
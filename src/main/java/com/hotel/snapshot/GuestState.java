@@ -0,0 +1,65 @@
+package com.hotel.snapshot;
+
+import com.hotel.model.Guest;
+import java.util.Date;
+
+// Immutable copy of a Guest's state as of one snapshot version. Dates are
+// kept as epoch millis (Long.MIN_VALUE when unset) so nothing mutable leaks out.
+public final class GuestState {
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    private final String guestId;
+    private final String name;
+    private final int age;
+    private final String contactInfo;
+    private final String roomNumber;
+    private final long checkInMillis;
+    private final long checkOutMillis;
+
+    private GuestState(Guest guest) {
+        this.guestId = guest.getGuestId();
+        this.name = guest.getName();
+        this.age = guest.getAge();
+        this.contactInfo = guest.getContactInfo();
+        this.roomNumber = guest.getRoomNumber();
+        this.checkInMillis = millis(guest.getCheckInDate());
+        this.checkOutMillis = millis(guest.getCheckOutDate());
+    }
+
+    public static GuestState of(Guest guest) {
+        return new GuestState(guest);
+    }
+
+    public String getGuestId() {
+        return guestId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public String getContactInfo() {
+        return contactInfo;
+    }
+
+    public String getRoomNumber() {
+        return roomNumber;
+    }
+
+    // Returns a fresh copy, or null when not checked in
+    public Date getCheckInDate() {
+        return checkInMillis == NO_DATE ? null : new Date(checkInMillis);
+    }
+
+    public Date getCheckOutDate() {
+        return checkOutMillis == NO_DATE ? null : new Date(checkOutMillis);
+    }
+
+    private static long millis(Date date) {
+        return date == null ? NO_DATE : date.getTime();
+    }
+}
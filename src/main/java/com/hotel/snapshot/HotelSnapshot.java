@@ -0,0 +1,97 @@
+package com.hotel.snapshot;
+
+import com.hotel.model.Chef;
+import com.hotel.model.FrontDeskStaff;
+import com.hotel.model.Housekeeper;
+import java.util.List;
+
+// Point-in-time view of a Hotel's rooms, guests and staff. Writers publish a
+// new snapshot for every change, sharing structure with the previous one;
+// readers grab the current snapshot once and can then iterate it for as long
+// as they like without locks and without seeing later writes. Rooms and
+// guests are held as immutable RoomState / GuestState copies that are
+// replaced whenever check-in, check-out, occupancy or cleaning changes them,
+// so occupancy read from a snapshot cannot race with the front desk.
+public final class HotelSnapshot {
+    public static final HotelSnapshot EMPTY = new HotelSnapshot(0, PersistentVector.empty(),
+            PersistentVector.empty(), PersistentVector.empty(), PersistentVector.empty(), PersistentVector.empty());
+
+    private final long version;
+    private final PersistentVector<RoomState> rooms;
+    private final PersistentVector<GuestState> guests;
+    private final PersistentVector<FrontDeskStaff> frontDeskStaffs;
+    private final PersistentVector<Housekeeper> housekeepers;
+    private final PersistentVector<Chef> chefs;
+
+    private HotelSnapshot(long version, PersistentVector<RoomState> rooms, PersistentVector<GuestState> guests,
+                          PersistentVector<FrontDeskStaff> frontDeskStaffs,
+                          PersistentVector<Housekeeper> housekeepers, PersistentVector<Chef> chefs) {
+        this.version = version;
+        this.rooms = rooms;
+        this.guests = guests;
+        this.frontDeskStaffs = frontDeskStaffs;
+        this.housekeepers = housekeepers;
+        this.chefs = chefs;
+    }
+
+    public HotelSnapshot withRoom(RoomState room) {
+        return new HotelSnapshot(version + 1, rooms.append(room), guests, frontDeskStaffs, housekeepers, chefs);
+    }
+
+    // Replaces the state of the room at index (its position in Hotel.getRooms())
+    public HotelSnapshot withRoom(int index, RoomState room) {
+        return new HotelSnapshot(version + 1, rooms.set(index, room), guests, frontDeskStaffs, housekeepers, chefs);
+    }
+
+    public HotelSnapshot withRooms(List<RoomState> added) {
+        return new HotelSnapshot(version + 1, rooms.appendAll(added), guests, frontDeskStaffs, housekeepers, chefs);
+    }
+
+    public HotelSnapshot withGuest(GuestState guest) {
+        return new HotelSnapshot(version + 1, rooms, guests.append(guest), frontDeskStaffs, housekeepers, chefs);
+    }
+
+    public HotelSnapshot withGuest(int index, GuestState guest) {
+        return new HotelSnapshot(version + 1, rooms, guests.set(index, guest), frontDeskStaffs, housekeepers, chefs);
+    }
+
+    public HotelSnapshot withGuests(List<GuestState> added) {
+        return new HotelSnapshot(version + 1, rooms, guests.appendAll(added), frontDeskStaffs, housekeepers, chefs);
+    }
+
+    public HotelSnapshot withFrontDeskStaff(FrontDeskStaff staff) {
+        return new HotelSnapshot(version + 1, rooms, guests, frontDeskStaffs.append(staff), housekeepers, chefs);
+    }
+
+    public HotelSnapshot withHousekeeper(Housekeeper housekeeper) {
+        return new HotelSnapshot(version + 1, rooms, guests, frontDeskStaffs, housekeepers.append(housekeeper), chefs);
+    }
+
+    public HotelSnapshot withChef(Chef chef) {
+        return new HotelSnapshot(version + 1, rooms, guests, frontDeskStaffs, housekeepers, chefs.append(chef));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<RoomState> getRooms() {
+        return rooms.asList();
+    }
+
+    public List<GuestState> getGuests() {
+        return guests.asList();
+    }
+
+    public List<FrontDeskStaff> getFrontDeskStaffs() {
+        return frontDeskStaffs.asList();
+    }
+
+    public List<Housekeeper> getHousekeepers() {
+        return housekeepers.asList();
+    }
+
+    public List<Chef> getChefs() {
+        return chefs.asList();
+    }
+}
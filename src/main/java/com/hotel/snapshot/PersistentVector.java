@@ -0,0 +1,192 @@
+package com.hotel.snapshot;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+// Immutable vector with structural sharing: a 32-way trie of array nodes plus
+// a small tail array. append and set copy only the path from the root to the
+// changed leaf (at most a handful of 32-slot arrays), so every older version
+// stays valid and costs memory only for what changed since.
+public final class PersistentVector<T> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return (T) leafFor(index)[index & MASK];
+    }
+
+    public PersistentVector<T> append(T value) {
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = value;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+        // Tail is full: push it into the trie and start a new tail
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[] {value});
+    }
+
+    // Appends all values; when they outnumber the current elements the trie
+    // is rebuilt bottom-up in one pass instead of copying a path per element
+    public PersistentVector<T> appendAll(List<? extends T> values) {
+        if (values.size() <= size) {
+            PersistentVector<T> result = this;
+            for (T value : values) {
+                result = result.append(value);
+            }
+            return result;
+        }
+        Object[] all = new Object[size + values.size()];
+        for (int i = 0; i < size; i++) {
+            all[i] = get(i);
+        }
+        int i = size;
+        for (T value : values) {
+            all[i++] = value;
+        }
+        return build(all);
+    }
+
+    private static <T> PersistentVector<T> build(Object[] all) {
+        int tailStart = all.length < WIDTH ? 0 : ((all.length - 1) >>> BITS) << BITS;
+        Object[] tail = Arrays.copyOfRange(all, tailStart, all.length);
+        if (tailStart == 0) {
+            return new PersistentVector<>(all.length, BITS, EMPTY_NODE, tail);
+        }
+        Object[][] nodes = new Object[tailStart >>> BITS][];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = Arrays.copyOfRange(all, i << BITS, (i + 1) << BITS);
+        }
+        int shift = BITS;
+        while (true) {
+            Object[][] parents = new Object[(nodes.length + MASK) >>> BITS][];
+            for (int i = 0; i < parents.length; i++) {
+                parents[i] = Arrays.copyOfRange(nodes, i << BITS, (i << BITS) + WIDTH, Object[].class);
+            }
+            if (parents.length == 1) {
+                return new PersistentVector<>(all.length, shift, parents[0], tail);
+            }
+            nodes = parents;
+            shift += BITS;
+        }
+    }
+
+    public PersistentVector<T> set(int index, T value) {
+        if (index == size) {
+            return append(value);
+        }
+        checkIndex(index);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = value;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, assoc(shift, root, index, value), tail);
+    }
+
+    // Read-only List view of this version; never changes once created
+    public List<T> asList() {
+        return new AbstractList<T>() {
+            @Override
+            public T get(int index) {
+                return PersistentVector.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(int index) {
+        checkIndex(index);
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Object[] copy = parent.clone();
+        Object[] inserted;
+        if (level == BITS) {
+            inserted = tailNode;
+        } else {
+            Object[] child = (Object[]) parent[subIndex];
+            inserted = child != null ? pushTail(level - BITS, child, tailNode) : newPath(level - BITS, tailNode);
+        }
+        copy[subIndex] = inserted;
+        return copy;
+    }
+
+    private static Object[] newPath(int level, Object[] node) {
+        if (level == 0) {
+            return node;
+        }
+        Object[] path = new Object[WIDTH];
+        path[0] = newPath(level - BITS, node);
+        return path;
+    }
+
+    private static Object[] assoc(int level, Object[] node, int index, Object value) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = value;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            copy[subIndex] = assoc(level - BITS, (Object[]) node[subIndex], index, value);
+        }
+        return copy;
+    }
+}
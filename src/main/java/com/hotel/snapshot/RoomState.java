@@ -0,0 +1,45 @@
+package com.hotel.snapshot;
+
+import com.hotel.model.Room;
+
+// Immutable copy of a Room's state as of one snapshot version
+public final class RoomState {
+    private final String roomNumber;
+    private final String roomType;
+    private final double price;
+    private final boolean occupied;
+    private final boolean clean;
+
+    private RoomState(String roomNumber, String roomType, double price, boolean occupied, boolean clean) {
+        this.roomNumber = roomNumber;
+        this.roomType = roomType;
+        this.price = price;
+        this.occupied = occupied;
+        this.clean = clean;
+    }
+
+    public static RoomState of(Room room) {
+        return new RoomState(room.getRoomNumber(), room.getRoomType(), room.getPrice(), room.isOccupied(),
+                room.isClean());
+    }
+
+    public String getRoomNumber() {
+        return roomNumber;
+    }
+
+    public String getRoomType() {
+        return roomType;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public boolean isOccupied() {
+        return occupied;
+    }
+
+    public boolean isClean() {
+        return clean;
+    }
+}
@@ -0,0 +1,257 @@
+package com.hotel.supplies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Stock counters for one floor, striped over cells like a LongAdder. A cell
+// holds the floor's counters for every supply together (7 longs), so a
+// cleaning task takes a free cell with a single CAS on the cell's version,
+// draws all its supplies there and releases it. Cells are 128 bytes apart,
+// so two cells never share a cache line whatever the array's alignment, and
+// threads start at a cell picked by thread id, so concurrent housekeepers on
+// a floor mostly write different lines.
+//
+// Reorder alerts need the exact stock, which no single cell has. Each cell
+// therefore also carries an allowance per supply: units it may draw without
+// looking at the others, handed out from the floor's headroom above the
+// reorder level. A task whose cell lacks the allowance takes the floor lock,
+// and that is the only place stock can reach the level, so each crossing is
+// seen by exactly one task. Near the level allowances stop being handed out
+// and draws go through the lock until a delivery refills the floor.
+final class FloorStock {
+    private static final SupplyType[] TYPES = SupplyType.values();
+    private static final int CELLS = cellCount();
+    private static final int STRIDE = 16; // longs per cell, leaving over a cache line between cells
+    private static final int VERSION = 0; // odd while a task holds the cell
+    private static final int COUNTS = 1; // stock change per supply since the floor opened
+    private static final int ALLOWANCES = COUNTS + TYPES.length;
+    private static final int ALLOWANCE_TASKS = 16; // tasks' worth of allowance granted at a time
+    private static final int SPINS_BEFORE_YIELD = 64;
+
+    private final String floor;
+    // cell 0 is written only under the floor lock; cells 1..CELLS by the fast path
+    private final AtomicLongArray cells = new AtomicLongArray((CELLS + 2) * STRIDE);
+    // Guarded by this: stock minus reorder level, less the allowances handed
+    // out. Exact when no allowance for that supply is outstanding.
+    private final long[] headroom = new long[TYPES.length];
+    private final boolean[] outstanding = new boolean[TYPES.length];
+    private final long[] reorderLevels; // guarded by this
+
+    FloorStock(String floor, long[] reorderLevels) {
+        this.floor = floor;
+        this.reorderLevels = reorderLevels.clone();
+        for (SupplyType type : TYPES) {
+            headroom[type.ordinal()] = -reorderLevels[type.ordinal()];
+        }
+    }
+
+    String getFloor() {
+        return floor;
+    }
+
+    // Takes one task's usage from stock and returns an alert for every supply
+    // this task took down to its reorder level
+    List<ReorderAlert> consume(boolean changeSheets, boolean restockSupplies) {
+        int first = firstCell();
+        for (int i = 0; i < CELLS; i++) {
+            int base = base(1 + (first + i) % CELLS);
+            long version = cells.get(base + VERSION);
+            if ((version & 1) != 0 || !cells.compareAndSet(base + VERSION, version, version + 1)) {
+                continue; // busy, try the next cell
+            }
+            if (!hasAllowance(base, changeSheets, restockSupplies)) {
+                cells.setRelease(base + VERSION, version); // nothing changed
+                break;
+            }
+            for (SupplyType type : TYPES) {
+                int usage = type.usage(changeSheets, restockSupplies);
+                if (usage != 0) {
+                    int at = base + ALLOWANCES + type.ordinal();
+                    cells.setPlain(at, cells.getPlain(at) - usage);
+                    add(base, type, -usage);
+                }
+            }
+            cells.setRelease(base + VERSION, version + 2);
+            return List.of();
+        }
+        return consumeLocked(changeSheets, restockSupplies, first);
+    }
+
+    synchronized void receive(SupplyType type, long quantity) {
+        int base = lock(0);
+        add(base, type, quantity);
+        unlock(base, true);
+        headroom[type.ordinal()] += quantity;
+    }
+
+    // Moves the reorder level. Allowances are taken back first, since with a
+    // higher level they could take the stock past it without an alert, and
+    // so headroom is exact. Returns an alert if the stock was above the old
+    // level and is at or below the new one, otherwise null.
+    synchronized ReorderAlert setReorderLevel(SupplyType type, long level) {
+        reclaimAllowances();
+        int t = type.ordinal();
+        long before = headroom[t];
+        headroom[t] -= level - reorderLevels[t];
+        reorderLevels[t] = level;
+        return before > 0 && headroom[t] <= 0 ? new ReorderAlert(floor, type, headroom[t] + level, level) : null;
+    }
+
+    // Current count, adding up the cells without waiting for tasks in flight
+    long get(SupplyType type) {
+        long total = 0;
+        for (int cell = 0; cell <= CELLS; cell++) {
+            total += cells.getAcquire(base(cell) + COUNTS + type.ordinal());
+        }
+        return total;
+    }
+
+    // Adds up the cells, copying each one while no task holds it, so every
+    // task and delivery is either fully included or not at all. Only the
+    // reader retries; a cell is held for a few plain writes.
+    void copyTo(long[] dst) {
+        Arrays.fill(dst, 0);
+        long[] cell = new long[TYPES.length];
+        for (int i = 0; i <= CELLS; i++) {
+            int base = base(i);
+            for (int attempt = 1; !copyCell(base, cell); attempt++) {
+                backOff(attempt);
+            }
+            for (int t = 0; t < cell.length; t++) {
+                dst[t] += cell[t];
+            }
+        }
+    }
+
+    private boolean copyCell(int base, long[] dst) {
+        long version = cells.get(base + VERSION);
+        if ((version & 1) != 0) {
+            return false;
+        }
+        for (int t = 0; t < dst.length; t++) {
+            dst[t] = cells.getAcquire(base + COUNTS + t);
+        }
+        return cells.get(base + VERSION) == version;
+    }
+
+    private synchronized List<ReorderAlert> consumeLocked(boolean changeSheets, boolean restockSupplies, int first) {
+        for (SupplyType type : TYPES) {
+            int t = type.ordinal();
+            if (outstanding[t] && headroom[t] <= type.usage(changeSheets, restockSupplies)) {
+                reclaimAllowances(); // this task may reach the level, so headroom has to be exact
+                break;
+            }
+        }
+        List<ReorderAlert> alerts = null;
+        int base = lock(0);
+        for (SupplyType type : TYPES) {
+            int usage = type.usage(changeSheets, restockSupplies);
+            if (usage == 0) {
+                continue;
+            }
+            int t = type.ordinal();
+            add(base, type, -usage);
+            long before = headroom[t];
+            headroom[t] -= usage;
+            if (!outstanding[t] && before > 0 && headroom[t] <= 0) {
+                if (alerts == null) {
+                    alerts = new ArrayList<>();
+                }
+                long level = reorderLevels[t];
+                alerts.add(new ReorderAlert(floor, type, headroom[t] + level, level));
+            }
+        }
+        unlock(base, true);
+        grantAllowance(1 + first, changeSheets, restockSupplies);
+        return alerts == null ? List.of() : alerts;
+    }
+
+    // Hands a cell allowance for the next few tasks like this one, but only
+    // while the floor is well above the level: otherwise tasks come through
+    // the lock, where crossings are seen exactly
+    private void grantAllowance(int cell, boolean changeSheets, boolean restockSupplies) {
+        int base = lock(cell);
+        for (SupplyType type : TYPES) {
+            int t = type.ordinal();
+            long grant = (long) ALLOWANCE_TASKS * type.usage(changeSheets, restockSupplies);
+            if (grant != 0 && headroom[t] > grant * CELLS) {
+                headroom[t] -= grant;
+                outstanding[t] = true;
+                cells.setPlain(base + ALLOWANCES + t, cells.getPlain(base + ALLOWANCES + t) + grant);
+            }
+        }
+        unlock(base, false);
+    }
+
+    private void reclaimAllowances() {
+        for (int cell = 1; cell <= CELLS; cell++) {
+            int base = lock(cell);
+            for (int t = 0; t < TYPES.length; t++) {
+                headroom[t] += cells.getPlain(base + ALLOWANCES + t);
+                cells.setPlain(base + ALLOWANCES + t, 0);
+            }
+            unlock(base, false);
+        }
+        for (int t = 0; t < TYPES.length; t++) {
+            outstanding[t] = false;
+        }
+    }
+
+    private boolean hasAllowance(int base, boolean changeSheets, boolean restockSupplies) {
+        for (SupplyType type : TYPES) {
+            if (cells.getPlain(base + ALLOWANCES + type.ordinal()) < type.usage(changeSheets, restockSupplies)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Holders never wait for anything while holding a cell, so this only
+    // spins for a task in flight
+    private int lock(int cell) {
+        int base = base(cell);
+        for (int attempt = 1; ; attempt++) {
+            long version = cells.get(base + VERSION);
+            if ((version & 1) == 0 && cells.compareAndSet(base + VERSION, version, version + 1)) {
+                return base;
+            }
+            backOff(attempt);
+        }
+    }
+
+    // Releases a held cell; changed tells readers its counts moved
+    private void unlock(int base, boolean changed) {
+        cells.setRelease(base + VERSION, cells.getPlain(base + VERSION) + (changed ? 1 : -1));
+    }
+
+    private void add(int base, SupplyType type, long delta) {
+        int at = base + COUNTS + type.ordinal();
+        cells.setRelease(at, cells.getPlain(at) + delta);
+    }
+
+    private static void backOff(int attempt) {
+        if (attempt % SPINS_BEFORE_YIELD == 0) {
+            Thread.yield(); // the holder may have been descheduled mid-task
+        } else {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static int base(int cell) {
+        return (cell + 1) * STRIDE; // the first stride is padding
+    }
+
+    private static int firstCell() {
+        long id = Thread.currentThread().getId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & (CELLS - 1);
+    }
+
+    // A power of two at least twice the CPU count, as tasks only contend
+    // while they actually run at the same time
+    private static int cellCount() {
+        int cpus = Runtime.getRuntime().availableProcessors();
+        return Math.min(64, Integer.highestOneBit(Math.max(2, cpus) * 2 - 1) << 1);
+    }
+}
@@ -0,0 +1,37 @@
+package com.hotel.supplies;
+
+// Raised once when a floor's stock of a supply falls to its reorder level
+public class ReorderAlert {
+    private final String floor;
+    private final SupplyType type;
+    private final long remaining;
+    private final long reorderLevel;
+
+    public ReorderAlert(String floor, SupplyType type, long remaining, long reorderLevel) {
+        this.floor = floor;
+        this.type = type;
+        this.remaining = remaining;
+        this.reorderLevel = reorderLevel;
+    }
+
+    public String getFloor() {
+        return floor;
+    }
+
+    public SupplyType getType() {
+        return type;
+    }
+
+    public long getRemaining() {
+        return remaining;
+    }
+
+    public long getReorderLevel() {
+        return reorderLevel;
+    }
+
+    @Override
+    public String toString() {
+        return "Reorder " + type + " for " + floor + ": " + remaining + " left (reorder level " + reorderLevel + ")";
+    }
+}
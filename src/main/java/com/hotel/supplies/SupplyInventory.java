@@ -0,0 +1,119 @@
+package com.hotel.supplies;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// Housekeeping supply stock, kept per floor. Cleaning tasks only touch
+// their own floor's counters, and within a floor each task draws from one
+// of several striped cells (see FloorStock), so housekeepers reporting at
+// the same time rarely write the same cache line and share no counter.
+// Reports read a consistent copy through snapshot().
+public class SupplyInventory {
+    private static final SupplyType[] TYPES = SupplyType.values();
+
+    private final Map<String, FloorStock> floors = new ConcurrentHashMap<>();
+    private volatile long[] reorderLevels; // copy-on-write, indexed by ordinal
+    private volatile Consumer<ReorderAlert> reorderListener;
+
+    public SupplyInventory() {
+        long[] levels = new long[TYPES.length];
+        for (SupplyType type : TYPES) {
+            levels[type.ordinal()] = type.getDefaultReorderLevel();
+        }
+        this.reorderLevels = levels;
+    }
+
+    // Called on the cleaning thread that took the stock down to the level, or
+    // on the thread that raised the level to or above a floor's stock
+    public void setReorderListener(Consumer<ReorderAlert> reorderListener) {
+        this.reorderListener = reorderListener;
+    }
+
+    // Floors whose stock is now at or below the new level alert right away,
+    // as they would have if the stock had been drawn down to it
+    public void setReorderLevel(SupplyType type, long level) {
+        if (level < 0) {
+            throw new IllegalArgumentException("Reorder level must not be negative");
+        }
+        List<ReorderAlert> alerts = new ArrayList<>();
+        synchronized (this) {
+            long[] levels = reorderLevels.clone();
+            levels[type.ordinal()] = level;
+            reorderLevels = levels;
+            for (FloorStock stock : floors.values()) {
+                ReorderAlert alert = stock.setReorderLevel(type, level);
+                if (alert != null) {
+                    alerts.add(alert);
+                }
+            }
+        }
+        notifyListener(alerts);
+    }
+
+    public long getReorderLevel(SupplyType type) {
+        return reorderLevels[type.ordinal()];
+    }
+
+    // Records a delivery to a floor's store room
+    public void receive(String floor, SupplyType type, long quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Delivered quantity must be positive");
+        }
+        stockFor(floor).receive(type, quantity);
+    }
+
+    // Takes one cleaning task's supplies from the floor's stock. Stock may go
+    // negative, meaning the floor borrowed from elsewhere; the alert has been
+    // raised by then.
+    public void recordCleaning(String floor, boolean changeSheets, boolean restockSupplies) {
+        if (!changeSheets && !restockSupplies) {
+            return;
+        }
+        notifyListener(stockFor(floor).consume(changeSheets, restockSupplies));
+    }
+
+    // Current count for one floor; may be mid-task relative to other supplies
+    public long getStock(String floor, SupplyType type) {
+        FloorStock stock = floors.get(floor);
+        return stock == null ? 0 : stock.get(type);
+    }
+
+    // Per-floor counts where every cleaning task and delivery is either fully
+    // included or not at all, so floor and hotel totals always add up
+    public SupplySnapshot snapshot() {
+        Map<String, long[]> counts = new TreeMap<>();
+        for (FloorStock stock : floors.values()) {
+            long[] copy = new long[TYPES.length];
+            stock.copyTo(copy);
+            counts.put(stock.getFloor(), copy);
+        }
+        return new SupplySnapshot(counts);
+    }
+
+    private void notifyListener(List<ReorderAlert> alerts) {
+        Consumer<ReorderAlert> listener = reorderListener;
+        if (listener != null) {
+            for (ReorderAlert alert : alerts) {
+                listener.accept(alert);
+            }
+        }
+    }
+
+    private FloorStock stockFor(String floor) {
+        if (floor == null) {
+            throw new IllegalArgumentException("Supplies are tracked per floor; floor must not be null");
+        }
+        FloorStock stock = floors.get(floor); // lock-free on the hot path
+        return stock != null ? stock : addFloor(floor);
+    }
+
+    // Under the same lock as setReorderLevel, so a new floor starts from the
+    // current levels
+    private synchronized FloorStock addFloor(String floor) {
+        return floors.computeIfAbsent(floor, name -> new FloorStock(name, reorderLevels));
+    }
+}
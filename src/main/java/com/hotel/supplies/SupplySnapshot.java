@@ -0,0 +1,41 @@
+package com.hotel.supplies;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+// Immutable copy of supply stock taken by SupplyInventory.snapshot()
+public class SupplySnapshot {
+    private final Map<String, long[]> counts; // floor -> count per supply ordinal
+
+    SupplySnapshot(Map<String, long[]> counts) {
+        this.counts = counts;
+    }
+
+    public Set<String> getFloors() {
+        return Collections.unmodifiableSet(counts.keySet());
+    }
+
+    public long getStock(String floor, SupplyType type) {
+        long[] floorCounts = counts.get(floor);
+        return floorCounts == null ? 0 : floorCounts[type.ordinal()];
+    }
+
+    public long getTotal(SupplyType type) {
+        long total = 0;
+        for (long[] floorCounts : counts.values()) {
+            total += floorCounts[type.ordinal()];
+        }
+        return total;
+    }
+
+    public void display() {
+        for (Map.Entry<String, long[]> entry : counts.entrySet()) {
+            StringBuilder line = new StringBuilder(entry.getKey()).append(':');
+            for (SupplyType type : SupplyType.values()) {
+                line.append(' ').append(type).append('=').append(entry.getValue()[type.ordinal()]);
+            }
+            System.out.println(line);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.hotel.supplies;
+
+// Consumables drawn from a floor's stock by cleaning tasks. Quantities are
+// per room: changing sheets uses one linen set, restocking a room uses
+// towels and a toiletry kit.
+public enum SupplyType {
+    LINEN_SET(1, 0, 20),
+    TOWEL(0, 4, 60),
+    TOILETRY_KIT(0, 1, 20);
+
+    private final int perSheetChange;
+    private final int perRestock;
+    private final long defaultReorderLevel;
+
+    SupplyType(int perSheetChange, int perRestock, long defaultReorderLevel) {
+        this.perSheetChange = perSheetChange;
+        this.perRestock = perRestock;
+        this.defaultReorderLevel = defaultReorderLevel;
+    }
+
+    // Units one cleaning task takes from stock
+    public int usage(boolean changeSheets, boolean restockSupplies) {
+        return (changeSheets ? perSheetChange : 0) + (restockSupplies ? perRestock : 0);
+    }
+
+    public long getDefaultReorderLevel() {
+        return defaultReorderLevel;
+    }
+}